@@ -0,0 +1,122 @@
+package com.zerojerry.utils.time;
+
+/**
+ * @Description 批量计算时间差，输入输出都是long[]，不创建对象。
+ * 毫秒数、天数的循环体只有一次减法，JIT可以展开并向量化；秒、分钟、小时多一次除以常数，可以展开但一般不会向量化；
+ * 月数需要把纪元天数换算成年月日，分支较多，不会向量化，只是省去了创建LocalDate，比逐个调用 ChronoUnit.MONTHS.between 略快。
+ * 单个计算请继续使用 {@link LocalDateTimeUtils#durationMillis}、{@link LocalDateUtils#customPeriodDays} 等方法。
+ * <p>
+ * 结果按结束减开始计算，截断取整，与 ChronoUnit.XXX.between(start, end) 一致。
+ * @Date 2026/10/19 16:05
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class BulkDurationUtils {
+    private BulkDurationUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    /**
+     * 相隔毫秒数
+     *
+     * @param startMillis 开始的毫秒级Unix时间戳
+     * @param endMillis   结束的毫秒级Unix时间戳
+     * @param out         结果
+     */
+    public static void millisBetween(long[] startMillis, long[] endMillis, long[] out) {
+        checkLength(startMillis, endMillis, out);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = endMillis[i] - startMillis[i];
+        }
+    }
+
+    /**
+     * 相隔秒数
+     *
+     * @param startMillis 开始的毫秒级Unix时间戳
+     * @param endMillis   结束的毫秒级Unix时间戳
+     * @param out         结果
+     */
+    public static void secondsBetween(long[] startMillis, long[] endMillis, long[] out) {
+        checkLength(startMillis, endMillis, out);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (endMillis[i] - startMillis[i]) / MILLIS_PER_SECOND;
+        }
+    }
+
+    /**
+     * 相隔分钟数
+     *
+     * @param startMillis 开始的毫秒级Unix时间戳
+     * @param endMillis   结束的毫秒级Unix时间戳
+     * @param out         结果
+     */
+    public static void minutesBetween(long[] startMillis, long[] endMillis, long[] out) {
+        checkLength(startMillis, endMillis, out);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (endMillis[i] - startMillis[i]) / MILLIS_PER_MINUTE;
+        }
+    }
+
+    /**
+     * 相隔小时数
+     *
+     * @param startMillis 开始的毫秒级Unix时间戳
+     * @param endMillis   结束的毫秒级Unix时间戳
+     * @param out         结果
+     */
+    public static void hoursBetween(long[] startMillis, long[] endMillis, long[] out) {
+        checkLength(startMillis, endMillis, out);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (endMillis[i] - startMillis[i]) / MILLIS_PER_HOUR;
+        }
+    }
+
+    /**
+     * 相隔天数
+     *
+     * @param startEpochDays 开始日期的纪元天数（LocalDate.toEpochDay()）
+     * @param endEpochDays   结束日期的纪元天数
+     * @param out            结果
+     */
+    public static void daysBetween(long[] startEpochDays, long[] endEpochDays, long[] out) {
+        checkLength(startEpochDays, endEpochDays, out);
+        for (int i = 0; i < out.length; i++) {
+            out[i] = endEpochDays[i] - startEpochDays[i];
+        }
+    }
+
+    /**
+     * 相隔的完整月数，与 startDate.until(endDate, ChronoUnit.MONTHS) 一致
+     *
+     * @param startEpochDays 开始日期的纪元天数（LocalDate.toEpochDay()）
+     * @param endEpochDays   结束日期的纪元天数
+     * @param out            结果
+     */
+    public static void monthsBetween(long[] startEpochDays, long[] endEpochDays, long[] out) {
+        checkLength(startEpochDays, endEpochDays, out);
+        for (int i = 0; i < out.length; i++) {
+            // 与 LocalDate.monthsUntil 相同：把 (月份序号, 日) 打包成一个数再相减
+            out[i] = (packedMonthDay(endEpochDays[i]) - packedMonthDay(startEpochDays[i])) / 32;
+        }
+    }
+
+    /**
+     * 纪元天数转为 (年*12 + 月 - 1) * 32 + 日
+     */
+    private static long packedMonthDay(long epochDay) {
+        long fields = EpochDayFields.pack(epochDay);
+        return (EpochDayFields.year(fields) * 12 + EpochDayFields.month(fields) - 1) * 32 + EpochDayFields.day(fields);
+    }
+
+    private static void checkLength(long[] start, long[] end, long[] out) {
+        if (start.length != end.length || start.length != out.length) {
+            throw new IllegalArgumentException("array length mismatch: start=" + start.length
+                    + ", end=" + end.length + ", out=" + out.length);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.zerojerry.utils.time;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * @Description 查表方式的中文日期渲染：直接写入调用方提供的char[]，稳定状态下不分配对象。
+ * 输出与 {@link LocalDateTimeUtils#YYYYMMDD_CHINESE}、{@link LocalDateTimeUtils#YYYYMMDD_SPACE_CHINESE}、
+ * {@link LocalDateTimeUtils#DATETIME_CHINESIZE} 以及 {@link TimeUtils#dayOfWeek2Str(DayOfWeek)} 一致，年份限定在1~9999。
+ * @Date 2026/10/19 14:20
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class ChineseDateRenderer {
+    private ChineseDateRenderer() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static final char YEAR = '年';
+    public static final char MONTH = '月';
+    public static final char DAY = '日';
+    public static final char HOUR = '点';
+    public static final char MINUTE = '分';
+
+    /**
+     * yyyy年MM月dd日
+     */
+    public static final int DATE_LENGTH = 11;
+    /**
+     * yyyy 年 MM 月 dd 日
+     */
+    public static final int DATE_SPACE_LENGTH = 17;
+    /**
+     * yyyy年MM月dd日 HH点mm分
+     */
+    public static final int DATETIME_LENGTH = 18;
+    /**
+     * 星期X
+     */
+    public static final int DAY_OF_WEEK_LENGTH = 3;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * 00~99 的十位、个位字符
+     */
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+
+    /**
+     * 按 DayOfWeek.getValue() - 1 索引的 星期X 的最后一个字
+     */
+    private static final char[] WEEKDAY_CHARS = {'一', '二', '三', '四', '五', '六', '天'};
+    private static final String[] WEEKDAY_LABELS = new String[WEEKDAY_CHARS.length];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+        for (int i = 0; i < WEEKDAY_CHARS.length; i++) {
+            WEEKDAY_LABELS[i] = "星期" + WEEKDAY_CHARS[i];
+        }
+    }
+
+    /**
+     * 星期X 的常量字符串，不做任何分配
+     *
+     * @param dayOfWeek 星期几
+     * @return 星期一 ~ 星期天
+     */
+    public static String dayOfWeekLabel(DayOfWeek dayOfWeek) {
+        return WEEKDAY_LABELS[dayOfWeek.getValue() - 1];
+    }
+
+    /**
+     * 写入 星期X
+     *
+     * @return 写入后的下一个位置
+     */
+    public static int renderDayOfWeek(DayOfWeek dayOfWeek, char[] buf, int offset) {
+        buf[offset] = '星';
+        buf[offset + 1] = '期';
+        buf[offset + 2] = WEEKDAY_CHARS[dayOfWeek.getValue() - 1];
+        return offset + DAY_OF_WEEK_LENGTH;
+    }
+
+    /**
+     * 写入 yyyy年MM月dd日
+     *
+     * @return 写入后的下一个位置
+     */
+    public static int renderDate(int year, int month, int day, char[] buf, int offset) {
+        checkYear(year);
+        int pos = writeYear(year, buf, offset);
+        buf[pos++] = YEAR;
+        pos = write2(month, buf, pos);
+        buf[pos++] = MONTH;
+        pos = write2(day, buf, pos);
+        buf[pos++] = DAY;
+        return pos;
+    }
+
+    public static int renderDate(LocalDate date, char[] buf, int offset) {
+        return renderDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), buf, offset);
+    }
+
+    /**
+     * 写入 yyyy 年 MM 月 dd 日
+     *
+     * @return 写入后的下一个位置
+     */
+    public static int renderDateSpaced(int year, int month, int day, char[] buf, int offset) {
+        checkYear(year);
+        int pos = writeYear(year, buf, offset);
+        buf[pos++] = ' ';
+        buf[pos++] = YEAR;
+        buf[pos++] = ' ';
+        pos = write2(month, buf, pos);
+        buf[pos++] = ' ';
+        buf[pos++] = MONTH;
+        buf[pos++] = ' ';
+        pos = write2(day, buf, pos);
+        buf[pos++] = ' ';
+        buf[pos++] = DAY;
+        return pos;
+    }
+
+    public static int renderDateSpaced(LocalDate date, char[] buf, int offset) {
+        return renderDateSpaced(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), buf, offset);
+    }
+
+    /**
+     * 写入 yyyy年MM月dd日 HH点mm分
+     *
+     * @return 写入后的下一个位置
+     */
+    public static int renderDateTime(int year, int month, int day, int hour, int minute, char[] buf, int offset) {
+        int pos = renderDate(year, month, day, buf, offset);
+        buf[pos++] = ' ';
+        pos = write2(hour, buf, pos);
+        buf[pos++] = HOUR;
+        pos = write2(minute, buf, pos);
+        buf[pos++] = MINUTE;
+        return pos;
+    }
+
+    public static int renderDateTime(LocalDateTime datetime, char[] buf, int offset) {
+        return renderDateTime(datetime.getYear(), datetime.getMonthValue(), datetime.getDayOfMonth(),
+                datetime.getHour(), datetime.getMinute(), buf, offset);
+    }
+
+    /**
+     * 批量写入 yyyy年MM月dd日，每个日期占 DATE_LENGTH 个字符，依次排列
+     *
+     * @param epochDays 纪元天数（LocalDate.toEpochDay()）
+     * @param buf       长度至少为 offset + epochDays.length * DATE_LENGTH
+     * @param offset    起始位置
+     * @return 写入后的下一个位置
+     */
+    public static int renderDates(long[] epochDays, char[] buf, int offset) {
+        int pos = offset;
+        for (long epochDay : epochDays) {
+            pos = renderEpochDay(epochDay, buf, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * 批量写入 yyyy年MM月dd日 HH点mm分，每个时间占 DATETIME_LENGTH 个字符，依次排列
+     *
+     * @param epochSeconds 秒级Unix时间戳
+     * @param zoneOffset   时区偏移，例如 ZoneOffset.ofHours(8)
+     * @param buf          长度至少为 offset + epochSeconds.length * DATETIME_LENGTH
+     * @param offset       起始位置
+     * @return 写入后的下一个位置
+     */
+    public static int renderDateTimes(long[] epochSeconds, ZoneOffset zoneOffset, char[] buf, int offset) {
+        int offsetSeconds = zoneOffset.getTotalSeconds();
+        int pos = offset;
+        for (long epochSecond : epochSeconds) {
+            long localSecond = epochSecond + offsetSeconds;
+            long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+            pos = renderEpochDay(epochDay, buf, pos);
+            buf[pos++] = ' ';
+            pos = write2(secondOfDay / 3600, buf, pos);
+            buf[pos++] = HOUR;
+            pos = write2(secondOfDay / 60 % 60, buf, pos);
+            buf[pos++] = MINUTE;
+        }
+        return pos;
+    }
+
+    /**
+     * 批量写入 星期X，每个占 DAY_OF_WEEK_LENGTH 个字符，依次排列
+     *
+     * @param epochDays 纪元天数（LocalDate.toEpochDay()）
+     * @return 写入后的下一个位置
+     */
+    public static int renderDaysOfWeek(long[] epochDays, char[] buf, int offset) {
+        int pos = offset;
+        for (long epochDay : epochDays) {
+            // 1970-01-01 是星期四，下标3
+            buf[pos] = '星';
+            buf[pos + 1] = '期';
+            buf[pos + 2] = WEEKDAY_CHARS[(int) Math.floorMod(epochDay + 3, 7L)];
+            pos += DAY_OF_WEEK_LENGTH;
+        }
+        return pos;
+    }
+
+    /**
+     * 纪元天数转年月日后写入，不创建LocalDate
+     */
+    private static int renderEpochDay(long epochDay, char[] buf, int offset) {
+        long fields = EpochDayFields.pack(epochDay);
+        return renderDate((int) EpochDayFields.year(fields), EpochDayFields.month(fields), EpochDayFields.day(fields),
+                buf, offset);
+    }
+
+    private static int writeYear(int year, char[] buf, int pos) {
+        int high = year / 100;
+        int low = year - high * 100;
+        buf[pos] = DIGIT_TENS[high];
+        buf[pos + 1] = DIGIT_ONES[high];
+        buf[pos + 2] = DIGIT_TENS[low];
+        buf[pos + 3] = DIGIT_ONES[low];
+        return pos + 4;
+    }
+
+    private static int write2(int value, char[] buf, int pos) {
+        buf[pos] = DIGIT_TENS[value];
+        buf[pos + 1] = DIGIT_ONES[value];
+        return pos + 2;
+    }
+
+    private static void checkYear(int year) {
+        if (year < 1 || year > 9999) {
+            throw new IllegalArgumentException("year out of range [1, 9999]: " + year);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.zerojerry.utils.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static com.zerojerry.utils.time.LocalDateTimeUtils.ZONE_ID_SH;
+
+/**
+ * @Description 请求参数等外部输入的时间解析：按字符串的形状（长度、分隔符、是否全是数字）直接选定格式，
+ * 不再逐个尝试格式、靠异常回退。支持的形状：
+ * <pre>
+ * yyyy-MM-dd HH:mm:ss
+ * yyyy-MM-dd
+ * yyyyMMddHHmmss        14位数字
+ * yyyyMMdd              8位数字
+ * 秒级Unix时间戳         其余不超过11位的数字
+ * 毫秒级Unix时间戳       其余12位及以上的数字
+ * </pre>
+ * Unix时间戳按东八区转换。
+ * @Date 2026/10/19 23:05
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class DateTimeParamParser {
+    private DateTimeParamParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static final DateTimeFormatter BASIC_DATE_FORMATTER = DateTimeFormatter.ofPattern(LocalDateTimeUtils.YYYYMMDD);
+    private static final DateTimeFormatter BASIC_DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern(LocalDateTimeUtils.YYYYMMDDHHMMSS);
+
+    private static final int MAX_EPOCH_SECOND_DIGITS = 11;
+    private static final int MAX_EPOCH_DIGITS = 18;
+
+    /**
+     * 字符串转LocalDateTime，只有日期的形状取当天0时0分0秒
+     *
+     * @param text 时间字符串
+     * @return LocalDateTime
+     * @throws DateTimeParseException 形状不支持或内容非法
+     */
+    public static LocalDateTime parseLocalDateTime(String text) {
+        String value = text.trim();
+        int length = value.length();
+        if (length == FastDateTimeFormat.DATETIME_LENGTH) {
+            LocalDateTime ldt = FastDateTimeFormat.parseDateTime(value);
+            return ldt != null ? ldt : LocalDateTime.parse(value, LocalDateTimeUtils.DATETIME_FORMATTER);
+        }
+        if (length == FastDateTimeFormat.DATE_LENGTH && value.charAt(4) == '-') {
+            return parseDashedDate(value).atStartOfDay();
+        }
+        if (!isDigits(value)) {
+            throw unsupported(value);
+        }
+        if (length == FastDateTimeFormat.BASIC_DATE_LENGTH) {
+            return parseBasicDate(value).atStartOfDay();
+        }
+        if (length == FastDateTimeFormat.BASIC_DATETIME_LENGTH) {
+            LocalDateTime ldt = FastDateTimeFormat.parseBasicDateTime(value);
+            return ldt != null ? ldt : LocalDateTime.parse(value, BASIC_DATETIME_FORMATTER);
+        }
+        return parseEpoch(value);
+    }
+
+    /**
+     * 字符串转LocalDate，带时间的形状只取日期部分
+     *
+     * @param text 时间字符串
+     * @return LocalDate
+     * @throws DateTimeParseException 形状不支持或内容非法
+     */
+    public static LocalDate parseLocalDate(String text) {
+        String value = text.trim();
+        int length = value.length();
+        if (length == FastDateTimeFormat.DATE_LENGTH && value.charAt(4) == '-') {
+            return parseDashedDate(value);
+        }
+        if (length == FastDateTimeFormat.BASIC_DATE_LENGTH && isDigits(value)) {
+            return parseBasicDate(value);
+        }
+        return parseLocalDateTime(value).toLocalDate();
+    }
+
+    private static LocalDate parseDashedDate(String value) {
+        LocalDate date = FastDateTimeFormat.parseDate(value);
+        return date != null ? date : LocalDate.parse(value, LocalDateTimeUtils.DATE_FORMATTER);
+    }
+
+    private static LocalDate parseBasicDate(String value) {
+        LocalDate date = FastDateTimeFormat.parseBasicDate(value);
+        return date != null ? date : LocalDate.parse(value, BASIC_DATE_FORMATTER);
+    }
+
+    private static LocalDateTime parseEpoch(String value) {
+        if (value.length() > MAX_EPOCH_DIGITS) {
+            throw unsupported(value);
+        }
+        long epoch = Long.parseLong(value);
+        Instant instant = value.length() <= MAX_EPOCH_SECOND_DIGITS
+                ? Instant.ofEpochSecond(epoch) : Instant.ofEpochMilli(epoch);
+        return LocalDateTime.ofInstant(instant, ZONE_ID_SH);
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static DateTimeParseException unsupported(String value) {
+        return new DateTimeParseException("Text '" + value + "' could not be parsed: unsupported shape", value, 0);
+    }
+}
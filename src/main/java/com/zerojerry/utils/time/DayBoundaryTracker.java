@@ -0,0 +1,152 @@
+package com.zerojerry.utils.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static com.zerojerry.utils.time.LocalDateTimeUtils.ZONE_ID_SH;
+
+/**
+ * @Description 按时间顺序消费事件时，记住当前所在的天和月的范围，时间戳仍在范围内时直接返回缓存结果，
+ * 只有跨天、跨月时才重新计算，并通过 {@link #advance(long)} 的返回值报告跨越了哪些边界。
+ * <p>
+ * 每个事件流一个实例，非线程安全，也不需要加锁。
+ * @Date 2026/10/19 17:30
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class DayBoundaryTracker {
+    /**
+     * 仍在当前天内
+     */
+    public static final int NO_CROSSING = 0;
+    /**
+     * 跨天（第一次调用 advance 也算跨天、跨月）
+     */
+    public static final int DAY_CROSSED = 1;
+    /**
+     * 跨月（跨月时一定同时跨天）
+     */
+    public static final int MONTH_CROSSED = 1 << 1;
+
+    private final ZoneId zone;
+
+    private LocalDate currentDate;
+    private LocalDate previousDate;
+    /**
+     * 当天范围 [dayStart, nextDayStart)，秒级Unix时间戳
+     */
+    private long dayStart = Long.MAX_VALUE;
+    private long nextDayStart = Long.MIN_VALUE;
+    /**
+     * 当月范围 [monthStart, nextMonthStart)，秒级Unix时间戳
+     */
+    private long monthStart = Long.MAX_VALUE;
+    private long nextMonthStart = Long.MIN_VALUE;
+
+    public DayBoundaryTracker() {
+        this(ZONE_ID_SH);
+    }
+
+    public DayBoundaryTracker(ZoneId zone) {
+        if (null == zone) {
+            throw new IllegalStateException();
+        }
+        this.zone = zone;
+    }
+
+    /**
+     * 推进到指定时间戳。时间戳可以回退，回退出当前范围时同样会重新计算并报告跨越。
+     *
+     * @param epochSecond 秒级Unix时间戳
+     * @return NO_CROSSING，或者 DAY_CROSSED、MONTH_CROSSED 的组合
+     */
+    public int advance(long epochSecond) {
+        if (epochSecond >= dayStart && epochSecond < nextDayStart) {
+            return NO_CROSSING;
+        }
+        LocalDate date = Instant.ofEpochSecond(epochSecond).atZone(zone).toLocalDate();
+        previousDate = currentDate;
+        currentDate = date;
+        dayStart = date.atStartOfDay(zone).toEpochSecond();
+        nextDayStart = date.plusDays(1).atStartOfDay(zone).toEpochSecond();
+        if (epochSecond >= monthStart && epochSecond < nextMonthStart) {
+            return DAY_CROSSED;
+        }
+        LocalDate firstDayOfMonth = date.withDayOfMonth(1);
+        monthStart = firstDayOfMonth.atStartOfDay(zone).toEpochSecond();
+        nextMonthStart = firstDayOfMonth.plusMonths(1).atStartOfDay(zone).toEpochSecond();
+        return DAY_CROSSED | MONTH_CROSSED;
+    }
+
+    /**
+     * 推进到指定时间戳并返回所在日期，相当于 {@link LocalDateUtils#secondUnix2LocalDate(Long)}
+     *
+     * @param epochSecond 秒级Unix时间戳
+     * @return 所在日期
+     */
+    public LocalDate localDateOf(long epochSecond) {
+        advance(epochSecond);
+        return currentDate;
+    }
+
+    /**
+     * 当前所在日期，还没有调用过 advance 时为null
+     */
+    public LocalDate currentDate() {
+        return currentDate;
+    }
+
+    /**
+     * 上一次跨天之前所在的日期，用于跨天时刷新上一天的数据
+     */
+    public LocalDate previousDate() {
+        return previousDate;
+    }
+
+    /**
+     * 当天0时0分0秒的秒级Unix时间戳，相当于 {@link TimeUtils#getDayStartEndUnixTime(Integer)} 的第一个值
+     *
+     * @throws IllegalStateException 还没有调用过 advance
+     */
+    public long dayStartSecond() {
+        checkAdvanced();
+        return dayStart;
+    }
+
+    /**
+     * 当天23时59分59秒的秒级Unix时间戳，相当于 {@link TimeUtils#getDayStartEndUnixTime(Integer)} 的第二个值
+     *
+     * @throws IllegalStateException 还没有调用过 advance
+     */
+    public long dayEndSecond() {
+        checkAdvanced();
+        return nextDayStart - 1;
+    }
+
+    /**
+     * 当月第一天0时0分0秒的秒级Unix时间戳
+     *
+     * @throws IllegalStateException 还没有调用过 advance
+     */
+    public long monthStartSecond() {
+        checkAdvanced();
+        return monthStart;
+    }
+
+    /**
+     * 当月最后一天23时59分59秒的秒级Unix时间戳
+     *
+     * @throws IllegalStateException 还没有调用过 advance
+     */
+    public long monthEndSecond() {
+        checkAdvanced();
+        return nextMonthStart - 1;
+    }
+
+    private void checkAdvanced() {
+        if (null == currentDate) {
+            throw new IllegalStateException("advance has not been called");
+        }
+    }
+}
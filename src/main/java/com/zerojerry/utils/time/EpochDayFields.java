@@ -0,0 +1,52 @@
+package com.zerojerry.utils.time;
+
+/**
+ * @Description 纪元天数转年月日，算法与 LocalDate.ofEpochDay 相同，但不创建LocalDate，供本包的批量方法使用。
+ * 结果打包为一个long：年 << 9 | 月 << 5 | 日，用 {@link #year(long)}、{@link #month(long)}、{@link #day(long)} 取出。
+ * @Date 2026/10/20 19:30
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+final class EpochDayFields {
+    private EpochDayFields() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static final int DAY_BITS = 5;
+    private static final int YEAR_SHIFT = 9;
+
+    static long pack(long epochDay) {
+        long zeroDay = epochDay + 719528 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / 146097 - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * 146097;
+        }
+        long yearEst = (400 * zeroDay + 591) / 146097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return (yearEst << YEAR_SHIFT) | ((long) month << DAY_BITS) | day;
+    }
+
+    static long year(long packed) {
+        return packed >> YEAR_SHIFT;
+    }
+
+    static int month(long packed) {
+        return (int) (packed >>> DAY_BITS) & 0xf;
+    }
+
+    static int day(long packed) {
+        return (int) packed & ((1 << DAY_BITS) - 1);
+    }
+}
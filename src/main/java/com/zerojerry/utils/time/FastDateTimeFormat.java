@@ -0,0 +1,227 @@
+package com.zerojerry.utils.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * @Description yyyy-MM-dd HH:mm:ss、yyyy-MM-dd 的快速格式化和解析，以及 yyyyMMddHHmmss、yyyyMMdd 的快速解析，
+ * 直接读写char[]，不经过DateTimeFormatter。
+ * 解析只处理4位年份的标准形状，形状不符或日期非法时返回null，由调用方回退到
+ * {@link LocalDateTimeUtils#DATETIME_FORMATTER}、{@link LocalDateTimeUtils#DATE_FORMATTER} 等，以保持原有的解析结果和异常。
+ * @Date 2026/10/19 21:10
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class FastDateTimeFormat {
+    private FastDateTimeFormat() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss
+     */
+    public static final int DATETIME_LENGTH = 19;
+    /**
+     * yyyy-MM-dd
+     */
+    public static final int DATE_LENGTH = 10;
+    /**
+     * yyyyMMddHHmmss
+     */
+    public static final int BASIC_DATETIME_LENGTH = 14;
+    /**
+     * yyyyMMdd
+     */
+    public static final int BASIC_DATE_LENGTH = 8;
+
+    /**
+     * 写入 yyyy-MM-dd HH:mm:ss，年份需在1~9999之间
+     *
+     * @return 写入后的下一个位置
+     */
+    public static int formatDateTime(LocalDateTime datetime, char[] buf, int offset) {
+        int pos = formatDate(datetime.getYear(), datetime.getMonthValue(), datetime.getDayOfMonth(), buf, offset);
+        buf[pos++] = ' ';
+        pos = write2(datetime.getHour(), buf, pos);
+        buf[pos++] = ':';
+        pos = write2(datetime.getMinute(), buf, pos);
+        buf[pos++] = ':';
+        return write2(datetime.getSecond(), buf, pos);
+    }
+
+    /**
+     * 写入 yyyy-MM-dd，年份需在1~9999之间
+     *
+     * @return 写入后的下一个位置
+     */
+    public static int formatDate(LocalDate date, char[] buf, int offset) {
+        return formatDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), buf, offset);
+    }
+
+    /**
+     * 是否可以用本类格式化，超出4位年份的需要交给DateTimeFormatter
+     */
+    public static boolean isFormattable(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * 解析 yyyy-MM-dd HH:mm:ss
+     *
+     * @return 解析结果，形状不符或日期非法时返回null
+     */
+    public static LocalDateTime parseDateTime(char[] buf, int offset, int length) {
+        if (length != DATETIME_LENGTH || buf[offset + 4] != '-' || buf[offset + 7] != '-' || buf[offset + 10] != ' '
+                || buf[offset + 13] != ':' || buf[offset + 16] != ':') {
+            return null;
+        }
+        return dateTimeOf(dateOf(buf, offset, offset + 5, offset + 8), buf, offset + 11, offset + 14, offset + 17);
+    }
+
+    /**
+     * 解析 yyyy-MM-dd
+     *
+     * @return 解析结果，形状不符或日期非法时返回null
+     */
+    public static LocalDate parseDate(char[] buf, int offset, int length) {
+        if (length != DATE_LENGTH || buf[offset + 4] != '-' || buf[offset + 7] != '-') {
+            return null;
+        }
+        return dateOf(buf, offset, offset + 5, offset + 8);
+    }
+
+    /**
+     * 解析 yyyyMMddHHmmss
+     *
+     * @return 解析结果，形状不符或日期非法时返回null
+     */
+    public static LocalDateTime parseBasicDateTime(char[] buf, int offset, int length) {
+        if (length != BASIC_DATETIME_LENGTH) {
+            return null;
+        }
+        return dateTimeOf(dateOf(buf, offset, offset + 4, offset + 6), buf, offset + 8, offset + 10, offset + 12);
+    }
+
+    /**
+     * 解析 yyyyMMdd
+     *
+     * @return 解析结果，形状不符或日期非法时返回null
+     */
+    public static LocalDate parseBasicDate(char[] buf, int offset, int length) {
+        if (length != BASIC_DATE_LENGTH) {
+            return null;
+        }
+        return dateOf(buf, offset, offset + 4, offset + 6);
+    }
+
+    public static LocalDateTime parseDateTime(CharSequence text) {
+        if (text.length() != DATETIME_LENGTH) {
+            return null;
+        }
+        return parseDateTime(toChars(text), 0, DATETIME_LENGTH);
+    }
+
+    public static LocalDate parseDate(CharSequence text) {
+        if (text.length() != DATE_LENGTH) {
+            return null;
+        }
+        return parseDate(toChars(text), 0, DATE_LENGTH);
+    }
+
+    public static LocalDateTime parseBasicDateTime(CharSequence text) {
+        if (text.length() != BASIC_DATETIME_LENGTH) {
+            return null;
+        }
+        return parseBasicDateTime(toChars(text), 0, BASIC_DATETIME_LENGTH);
+    }
+
+    public static LocalDate parseBasicDate(CharSequence text) {
+        if (text.length() != BASIC_DATE_LENGTH) {
+            return null;
+        }
+        return parseBasicDate(toChars(text), 0, BASIC_DATE_LENGTH);
+    }
+
+    private static char[] toChars(CharSequence text) {
+        if (text instanceof String) {
+            return ((String) text).toCharArray();
+        }
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        return chars;
+    }
+
+    /**
+     * 按给定位置读取年月日，数字或日期非法时返回null
+     */
+    private static LocalDate dateOf(char[] buf, int yearPos, int monthPos, int dayPos) {
+        int yearHigh = read2(buf, yearPos);
+        int yearLow = read2(buf, yearPos + 2);
+        int month = read2(buf, monthPos);
+        int day = read2(buf, dayPos);
+        if (yearHigh < 0 || yearLow < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        int year = yearHigh * 100 + yearLow;
+        if (year == 0 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * 按给定位置读取时分秒，date为null或数字非法时返回null
+     */
+    private static LocalDateTime dateTimeOf(LocalDate date, char[] buf, int hourPos, int minutePos, int secondPos) {
+        int hour = read2(buf, hourPos);
+        int minute = read2(buf, minutePos);
+        int second = read2(buf, secondPos);
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return date.atTime(hour, minute, second);
+    }
+
+    private static int formatDate(int year, int month, int day, char[] buf, int offset) {
+        int pos = write2(year / 100, buf, offset);
+        pos = write2(year % 100, buf, pos);
+        buf[pos++] = '-';
+        pos = write2(month, buf, pos);
+        buf[pos++] = '-';
+        return write2(day, buf, pos);
+    }
+
+    private static int write2(int value, char[] buf, int pos) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    /**
+     * 读取两位数字，不是数字时返回负数
+     */
+    private static int read2(char[] buf, int pos) {
+        int tens = buf[pos] - '0';
+        int ones = buf[pos + 1] - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
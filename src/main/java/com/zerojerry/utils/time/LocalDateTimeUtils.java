@@ -127,7 +127,14 @@ public class LocalDateTimeUtils {
      * @return
      */
     public static String formatLocalDateTimeChinesize(LocalDateTime datetime) {
-        return datetime.format(DATETIME_CHINESIZE);
+        int year = datetime.getYear();
+        if (year < 1 || year > 9999) {
+            // 查表渲染只支持4位年份
+            return datetime.format(DATETIME_CHINESIZE);
+        }
+        char[] buf = new char[ChineseDateRenderer.DATETIME_LENGTH];
+        ChineseDateRenderer.renderDateTime(datetime, buf, 0);
+        return new String(buf);
     }
 
 
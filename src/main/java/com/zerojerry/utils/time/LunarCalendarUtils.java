@@ -0,0 +1,568 @@
+package com.zerojerry.utils.time;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * @Description 查表方式的农历、节气换算，覆盖农历1900年正月初一（1900-01-31）至农历2100年除夕，节气覆盖公历1900~2100年。
+ * <p>
+ * 每个农历年用一个int记录各月大小和闰月，每个公历年用一个long记录24个节气的日期；类加载时展开为按农历月排列的
+ * 月初纪元天数表和按顺序排列的节气纪元天数表，之后的换算只需按平均月长/节气间隔估算下标再微调一两步，不做天文计算。
+ * 日期均按东八区计算。
+ * <p>
+ * 单个日期的结果以int打包返回，可用 {@link #lunarYear(int)}、{@link #lunarMonth(int)}、{@link #lunarDay(int)}、
+ * {@link #isLeapMonth(int)} 取出各字段，批量方法直接读写数组，不创建对象。
+ * @Date 2026/10/20 16:30
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class LunarCalendarUtils {
+    private LunarCalendarUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2100;
+
+    /**
+     * 24节气的名称，下标0为小寒，与 {@link #solarTermDate(int, int)} 的下标一致；偶数下标在公历每月上旬，奇数下标在下旬
+     */
+    public static final String[] SOLAR_TERM_NAMES = {
+            "小寒", "大寒", "立春", "雨水", "惊蛰", "春分", "清明", "谷雨", "立夏", "小满", "芒种", "夏至",
+            "小暑", "大暑", "立秋", "处暑", "白露", "秋分", "寒露", "霜降", "立冬", "小雪", "大雪", "冬至"
+    };
+
+    /**
+     * 农历1900~2100年的月份信息：
+     * 低4位为闰月月份，0表示无闰月；第16位为闰月大小；第15~4位依次为正月至腊月的大小。1表示大月30天，0表示小月29天
+     */
+    private static final int[] LUNAR_INFO = {
+            0x04bd8, 0x04ae0, 0x0a570, 0x054d5, 0x0d260, 0x0d950, 0x16554, 0x056a0, 0x09ad0, 0x055d2,
+            0x04ae0, 0x0a5b6, 0x0a4d0, 0x0d250, 0x1d255, 0x0b540, 0x0d6a0, 0x0ada2, 0x095b0, 0x14977,
+            0x04970, 0x0a4b0, 0x0b4b5, 0x06a50, 0x06d40, 0x1ab54, 0x02b60, 0x09570, 0x052f2, 0x04970,
+            0x06566, 0x0d4a0, 0x0ea50, 0x16a95, 0x05ad0, 0x02b60, 0x186e3, 0x092e0, 0x1c8d7, 0x0c950,
+            0x0d4a0, 0x1d8a6, 0x0b550, 0x056a0, 0x1a5b4, 0x025d0, 0x092d0, 0x0d2b2, 0x0a950, 0x0b557,
+            0x06ca0, 0x0b550, 0x15355, 0x04da0, 0x0a5b0, 0x14573, 0x052b0, 0x0a9a8, 0x0e950, 0x06aa0,
+            0x0aea6, 0x0ab50, 0x04b60, 0x0aae4, 0x0a570, 0x05260, 0x0f263, 0x0d950, 0x05b57, 0x056a0,
+            0x096d0, 0x04dd5, 0x04ad0, 0x0a4d0, 0x0d4d4, 0x0d250, 0x0d558, 0x0b540, 0x0b6a0, 0x195a6,
+            0x095b0, 0x049b0, 0x0a974, 0x0a4b0, 0x0b27a, 0x06a50, 0x06d40, 0x0af46, 0x0ab60, 0x09570,
+            0x04af5, 0x04970, 0x064b0, 0x074a3, 0x0ea50, 0x06b58, 0x05ac0, 0x0ab60, 0x096d5, 0x092e0,
+            0x0c960, 0x0d954, 0x0d4a0, 0x0da50, 0x07552, 0x056a0, 0x0abb7, 0x025d0, 0x092d0, 0x0cab5,
+            0x0a950, 0x0b4a0, 0x0baa4, 0x0ad50, 0x055d9, 0x04ba0, 0x0a5b0, 0x15176, 0x052b0, 0x0a930,
+            0x07954, 0x06aa0, 0x0ad50, 0x05b52, 0x04b60, 0x0a6e6, 0x0a4e0, 0x0d260, 0x0ea65, 0x0d530,
+            0x05aa0, 0x076a3, 0x096d0, 0x04afb, 0x04ad0, 0x0a4d0, 0x1d0b6, 0x0d250, 0x0d520, 0x0dd45,
+            0x0b5a0, 0x056d0, 0x055b2, 0x049b0, 0x0a577, 0x0a4b0, 0x0aa50, 0x1b255, 0x06d20, 0x0ada0,
+            0x14b63, 0x09370, 0x049f8, 0x04970, 0x064b0, 0x168a6, 0x0ea50, 0x06b20, 0x1a6c4, 0x0aae0,
+            0x092e0, 0x0d2e3, 0x0c960, 0x0d557, 0x0d4a0, 0x0da50, 0x05d55, 0x056a0, 0x0a6d0, 0x055d4,
+            0x052d0, 0x0a9b8, 0x0a950, 0x0b4a0, 0x0b6a6, 0x0ad50, 0x055a0, 0x0aba4, 0x0a5b0, 0x052b0,
+            0x0b273, 0x06930, 0x07337, 0x06aa0, 0x0ad50, 0x14b55, 0x04b60, 0x0a570, 0x054e4, 0x0d160,
+            0x0e968, 0x0d520, 0x0daa0, 0x16aa6, 0x056d0, 0x04ae0, 0x0a9d4, 0x0a2d0, 0x0d150, 0x0f252,
+            0x0d520
+    };
+
+    /**
+     * 公历1900~2100年的节气日期：第 2i~2i+1 位为第i个节气的日期相对 TERM_BASE_DAY[i] 的偏移
+     */
+    private static final long[] SOLAR_TERM_INFO = {
+            0x5aa665a65a56L, 0x6aaaa6aa9a5aL, 0xaaaaaabaaa6aL, 0xaaabbabbafaaL, 0x5aa665a65aabL, 0x6aaaa6aa9a5aL,
+            0xaaaaaaaaaa6aL, 0xaaabbabbafaaL, 0x5aa665a65aabL, 0x6aaaa6aa9a5aL, 0xaaaaaaaaaa6aL, 0xaaabbabbafaaL,
+            0x56a665a65aabL, 0x6aa6a6aa9a56L, 0xaaaaaaaa9a5aL, 0xaaabaabaaeaaL, 0x569665a65aaaL, 0x6aa6a6a69a56L,
+            0x6aaaaaaa9a5aL, 0xaaabaabaaeaaL, 0x569665a65aaaL, 0x5aa6a6a65a56L, 0x6aaaaaaa9a5aL, 0xaaabaabaaa6aL,
+            0x569665a65aaaL, 0x5aa6a6a65a56L, 0x6aaaa6aa9a5aL, 0xaaabaabaaa6aL, 0x555665a65aaaL, 0x5aa665a65a56L,
+            0x6aaaa6aa9a5aL, 0xaaaaaabaaa6aL, 0x555665665aaaL, 0x5aa665a65a56L, 0x6aaaa6aa9a5aL, 0xaaaaaaaaaa6aL,
+            0x555665665aaaL, 0x5aa665a65a56L, 0x6aaaa6aa9a5aL, 0xaaaaaaaaaa6aL, 0x555665665aaaL, 0x5aa665a65a56L,
+            0x6aaaa6aa9a5aL, 0xaaaaaaaaaa6aL, 0x555665655aaaL, 0x569665a65a56L, 0x6aa6a6aa9a56L, 0xaaaaaaaa9a5aL,
+            0x5556556559aaL, 0x569665a65a55L, 0x6aa6a6a65a56L, 0xaaaaaaaa9a5aL, 0x5556556559aaL, 0x569665a65a55L,
+            0x5aa6a6a65a56L, 0x6aaaa6aa9a5aL, 0x5556556555aaL, 0x569665a65a55L, 0x5aa665a65a56L, 0x6aaaa6aa9a5aL,
+            0x55555565556aL, 0x555665665a55L, 0x5aa665a65a56L, 0x6aaaa6aa9a5aL, 0x55555565556aL, 0x555665665a55L,
+            0x5aa665a65a56L, 0x6aaaa6aa9a5aL, 0x55555555556aL, 0x555665665a55L, 0x5aa665a65a56L, 0x6aaaa6aa9a5aL,
+            0x55555555556aL, 0x555665655a55L, 0x5aa665a65a56L, 0x6aa6a6aa9a5aL, 0x55555555456aL, 0x555655655a55L,
+            0x5a9665a65a56L, 0x6aa6a6a69a5aL, 0x55555555456aL, 0x555655655a55L, 0x569665a65a56L, 0x6aa6a6a65a56L,
+            0x55555155455aL, 0x555655655955L, 0x569665a65a55L, 0x5aa6a5a65a56L, 0x15555155455aL, 0x555555655555L,
+            0x569665665a55L, 0x5aa665a65a56L, 0x15555155455aL, 0x555555655515L, 0x555665665a55L, 0x5aa665a65a56L,
+            0x15555155455aL, 0x555555555515L, 0x555665665a55L, 0x5aa665a65a56L, 0x15555155455aL, 0x555555555515L,
+            0x555665665a55L, 0x5aa665a65a56L, 0x15555155455aL, 0x555555555515L, 0x555655655a55L, 0x5aa665a65a56L,
+            0x15515155455aL, 0x555555554515L, 0x555655655a55L, 0x5a9665a65a56L, 0x15515151455aL, 0x555551554515L,
+            0x555655655a55L, 0x569665a65a56L, 0x155151510556L, 0x555551554505L, 0x555655655955L, 0x569665665a55L,
+            0x155110510556L, 0x155551554505L, 0x555555655555L, 0x569665665a55L, 0x055110510556L, 0x155551554505L,
+            0x555555555515L, 0x555665665a55L, 0x055110510556L, 0x155551554505L, 0x555555555515L, 0x555665665a55L,
+            0x055110510556L, 0x155551554505L, 0x555555555515L, 0x555655655a55L, 0x055110510556L, 0x155551554505L,
+            0x555555555515L, 0x555655655a55L, 0x055110510556L, 0x155151514505L, 0x555555554515L, 0x555655655a55L,
+            0x054110510556L, 0x155151510505L, 0x555551554515L, 0x555655655a55L, 0x014110110556L, 0x155110510501L,
+            0x555551554505L, 0x555555655555L, 0x014110110555L, 0x155110510501L, 0x555551554505L, 0x555555555555L,
+            0x014110110555L, 0x055110510501L, 0x155551554505L, 0x555555555555L, 0x000110110555L, 0x055110510501L,
+            0x155551554505L, 0x555555555515L, 0x000110110555L, 0x055110510501L, 0x155551554505L, 0x555555555515L,
+            0x000100100555L, 0x055110510501L, 0x155151514505L, 0x555555555515L, 0x000100100555L, 0x054110510501L,
+            0x155151514505L, 0x555551554515L, 0x000100100555L, 0x054110510501L, 0x155150510505L, 0x555551554515L,
+            0x000100100555L, 0x014110110501L, 0x155110510505L, 0x555551554505L, 0x000000100055L, 0x014110110500L,
+            0x155110510501L, 0x555551554505L, 0x000000000055L, 0x014110110500L, 0x055110510501L, 0x155551554505L,
+            0x000000000055L, 0x000110110500L, 0x055110510501L, 0x155551554505L, 0x000000000015L, 0x000100110500L,
+            0x055110510501L, 0x155551554505L, 0x555555555515L
+    };
+
+    /**
+     * 各节气在公历月中的最早日期
+     */
+    private static final int[] TERM_BASE_DAY = {
+            4, 19, 3, 18, 4, 19, 4, 19, 4, 20, 4, 20, 6, 22, 6, 22, 6, 22, 7, 22, 6, 21, 6, 21
+    };
+
+    private static final int YEAR_COUNT = MAX_YEAR - MIN_YEAR + 1;
+    private static final int TERM_COUNT = 24;
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int LEAP_SHIFT = DAY_BITS + MONTH_BITS;
+    private static final int YEAR_SHIFT = LEAP_SHIFT + 1;
+
+    /**
+     * 朔望月、节气间隔的平均长度，单位为万分之一天，只用于估算下标
+     */
+    private static final long MEAN_MONTH = 295306;
+    private static final long MEAN_TERM = 152184;
+
+    private static final String[] MONTH_LABELS = {
+            "正月", "二月", "三月", "四月", "五月", "六月", "七月", "八月", "九月", "十月", "冬月", "腊月"
+    };
+    private static final String[] DAY_LABELS = {
+            "初一", "初二", "初三", "初四", "初五", "初六", "初七", "初八", "初九", "初十",
+            "十一", "十二", "十三", "十四", "十五", "十六", "十七", "十八", "十九", "二十",
+            "廿一", "廿二", "廿三", "廿四", "廿五", "廿六", "廿七", "廿八", "廿九", "三十"
+    };
+    private static final char[] STEMS = {'甲', '乙', '丙', '丁', '戊', '己', '庚', '辛', '壬', '癸'};
+    private static final char[] BRANCHES = {'子', '丑', '寅', '卯', '辰', '巳', '午', '未', '申', '酉', '戌', '亥'};
+    private static final char[] ZODIACS = {'鼠', '牛', '虎', '兔', '龙', '蛇', '马', '羊', '猴', '鸡', '狗', '猪'};
+
+    /**
+     * 下标为农历月的序号（农历1900年正月为0），值为该月初一的纪元天数，末尾多一项为农历2101年正月初一
+     */
+    private static final int[] MONTH_START;
+    /**
+     * 下标为农历月的序号，值为不含日期的打包结果（年、月、是否闰月）
+     */
+    private static final int[] MONTH_KEY;
+    /**
+     * 下标为 农历年 - MIN_YEAR，值为该年正月的序号，末尾多一项
+     */
+    private static final int[] YEAR_FIRST_MONTH = new int[YEAR_COUNT + 1];
+    /**
+     * 按顺序排列的节气纪元天数，下标为 (公历年 - MIN_YEAR) * 24 + 节气下标
+     */
+    private static final int[] TERM_EPOCH_DAY = new int[YEAR_COUNT * TERM_COUNT];
+    /**
+     * 月份、日期文案，下标为 ((是否闰月 ? 12 : 0) + 月 - 1) * 30 + 日 - 1
+     */
+    private static final String[] DATE_LABELS = new String[24 * 30];
+
+    private static final long MIN_EPOCH_DAY;
+    private static final long MAX_EPOCH_DAY;
+    private static final long MIN_TERM_YEAR_EPOCH_DAY = LocalDate.of(MIN_YEAR, 1, 1).toEpochDay();
+    private static final long MAX_TERM_YEAR_EPOCH_DAY = LocalDate.of(MAX_YEAR, 12, 31).toEpochDay();
+
+    static {
+        int monthCount = 0;
+        for (int info : LUNAR_INFO) {
+            monthCount += (info & 0xf) == 0 ? 12 : 13;
+        }
+        MONTH_START = new int[monthCount + 1];
+        MONTH_KEY = new int[monthCount];
+        int epochDay = (int) LocalDate.of(MIN_YEAR, 1, 31).toEpochDay();
+        int ordinal = 0;
+        for (int y = 0; y < YEAR_COUNT; y++) {
+            YEAR_FIRST_MONTH[y] = ordinal;
+            int info = LUNAR_INFO[y];
+            int leapMonth = info & 0xf;
+            for (int m = 1; m <= 12; m++) {
+                MONTH_START[ordinal] = epochDay;
+                MONTH_KEY[ordinal++] = key(MIN_YEAR + y, m, false);
+                epochDay += (info & (0x10000 >> m)) != 0 ? 30 : 29;
+                if (m == leapMonth) {
+                    MONTH_START[ordinal] = epochDay;
+                    MONTH_KEY[ordinal++] = key(MIN_YEAR + y, m, true);
+                    epochDay += (info & 0x10000) != 0 ? 30 : 29;
+                }
+            }
+        }
+        YEAR_FIRST_MONTH[YEAR_COUNT] = ordinal;
+        MONTH_START[ordinal] = epochDay;
+        MIN_EPOCH_DAY = MONTH_START[0];
+        MAX_EPOCH_DAY = epochDay - 1L;
+
+        for (int y = 0; y < YEAR_COUNT; y++) {
+            long info = SOLAR_TERM_INFO[y];
+            for (int i = 0; i < TERM_COUNT; i++) {
+                int day = TERM_BASE_DAY[i] + (int) ((info >>> (2 * i)) & 3);
+                TERM_EPOCH_DAY[y * TERM_COUNT + i] = (int) LocalDate.of(MIN_YEAR + y, i / 2 + 1, day).toEpochDay();
+            }
+        }
+
+        for (int m = 0; m < 24; m++) {
+            String month = m < 12 ? MONTH_LABELS[m] : "闰" + MONTH_LABELS[m - 12];
+            for (int d = 0; d < 30; d++) {
+                DATE_LABELS[m * 30 + d] = month + DAY_LABELS[d];
+            }
+        }
+    }
+
+    /**
+     * 是否在农历换算支持的范围内
+     *
+     * @param epochDay 纪元天数（LocalDate.toEpochDay()）
+     */
+    public static boolean isSupported(long epochDay) {
+        return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+    }
+
+    /**
+     * 公历转农历
+     *
+     * @param epochDay 纪元天数（LocalDate.toEpochDay()）
+     * @return 打包的农历日期
+     * @throws IllegalArgumentException 超出支持范围
+     */
+    public static int toLunar(long epochDay) {
+        if (!isSupported(epochDay)) {
+            throw new IllegalArgumentException("epochDay out of lunar calendar range: " + epochDay);
+        }
+        int ordinal = monthOrdinal((int) epochDay);
+        return MONTH_KEY[ordinal] | ((int) epochDay - MONTH_START[ordinal] + 1);
+    }
+
+    /**
+     * 公历转农历
+     *
+     * @throws IllegalArgumentException 超出支持范围
+     */
+    public static LunarDate toLunar(LocalDate date) {
+        int packed = toLunar(date.toEpochDay());
+        return new LunarDate(lunarYear(packed), lunarMonth(packed), lunarDay(packed), isLeapMonth(packed));
+    }
+
+    /**
+     * 批量公历转农历
+     *
+     * @param epochDays 纪元天数（LocalDate.toEpochDay()）
+     * @param packed    输出的打包农历日期，长度不小于epochDays
+     * @throws IllegalArgumentException 任一日期超出支持范围
+     */
+    public static void toLunar(long[] epochDays, int[] packed) {
+        checkLength(epochDays.length, packed.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packed[i] = toLunar(epochDays[i]);
+        }
+    }
+
+    /**
+     * 农历转公历
+     *
+     * @param year  农历年
+     * @param month 农历月，1~12
+     * @param day   农历日，1~30
+     * @param leap  是否闰月
+     * @return 纪元天数
+     * @throws IllegalArgumentException 超出支持范围，或该年没有这个闰月，或该月没有这一天
+     */
+    public static long toEpochDay(int year, int month, int day, boolean leap) {
+        int ordinal = monthOrdinal(year, month, leap);
+        if (day < 1 || day > MONTH_START[ordinal + 1] - MONTH_START[ordinal]) {
+            throw new IllegalArgumentException("invalid lunar day: " + year + "-" + (leap ? "闰" : "") + month + "-" + day);
+        }
+        return MONTH_START[ordinal] + day - 1L;
+    }
+
+    /**
+     * 打包的农历日期转公历
+     *
+     * @return 纪元天数
+     */
+    public static long toEpochDay(int packed) {
+        return toEpochDay(lunarYear(packed), lunarMonth(packed), lunarDay(packed), isLeapMonth(packed));
+    }
+
+    /**
+     * 批量农历转公历
+     *
+     * @param packed    打包的农历日期
+     * @param epochDays 输出的纪元天数，长度不小于packed
+     */
+    public static void toEpochDays(int[] packed, long[] epochDays) {
+        checkLength(packed.length, epochDays.length);
+        for (int i = 0; i < packed.length; i++) {
+            epochDays[i] = toEpochDay(packed[i]);
+        }
+    }
+
+    /**
+     * 农历转公历
+     */
+    public static LocalDate toLocalDate(int year, int month, int day, boolean leap) {
+        return LocalDate.ofEpochDay(toEpochDay(year, month, day, leap));
+    }
+
+    /**
+     * 打包农历日期，不校验是否存在
+     */
+    public static int pack(int year, int month, int day, boolean leap) {
+        return key(year, month, leap) | day;
+    }
+
+    public static int lunarYear(int packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    public static int lunarMonth(int packed) {
+        return (packed >>> DAY_BITS) & ((1 << MONTH_BITS) - 1);
+    }
+
+    public static int lunarDay(int packed) {
+        return packed & ((1 << DAY_BITS) - 1);
+    }
+
+    public static boolean isLeapMonth(int packed) {
+        return (packed & (1 << LEAP_SHIFT)) != 0;
+    }
+
+    /**
+     * 农历某年的闰月
+     *
+     * @return 闰几月，没有闰月返回0
+     */
+    public static int leapMonth(int year) {
+        return LUNAR_INFO[yearIndex(year)] & 0xf;
+    }
+
+    /**
+     * 农历某月的天数
+     *
+     * @return 29 或 30
+     */
+    public static int lengthOfMonth(int year, int month, boolean leap) {
+        int ordinal = monthOrdinal(year, month, leap);
+        return MONTH_START[ordinal + 1] - MONTH_START[ordinal];
+    }
+
+    /**
+     * 农历某年的天数
+     */
+    public static int lengthOfYear(int year) {
+        int index = yearIndex(year);
+        return MONTH_START[YEAR_FIRST_MONTH[index + 1]] - MONTH_START[YEAR_FIRST_MONTH[index]];
+    }
+
+    /**
+     * 月份和日期的中文，例如 正月初一、闰二月十五、腊月三十，返回常量字符串
+     */
+    public static String label(int packed) {
+        int month = lunarMonth(packed);
+        int day = lunarDay(packed);
+        if (month < 1 || month > 12 || day < 1 || day > 30) {
+            throw new IllegalArgumentException("invalid packed lunar date: " + packed);
+        }
+        return DATE_LABELS[((isLeapMonth(packed) ? 12 : 0) + month - 1) * 30 + day - 1];
+    }
+
+    /**
+     * 批量写入月份和日期的中文
+     *
+     * @param epochDays 纪元天数（LocalDate.toEpochDay()）
+     * @param labels    输出的文案，长度不小于epochDays
+     */
+    public static void labels(long[] epochDays, String[] labels) {
+        checkLength(epochDays.length, labels.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            labels[i] = label(toLunar(epochDays[i]));
+        }
+    }
+
+    /**
+     * 年份的干支，例如 2026 返回 丙午
+     */
+    public static String ganzhiYear(int year) {
+        int cycle = Math.floorMod(year - 4, 60);
+        return new String(new char[]{STEMS[cycle % 10], BRANCHES[cycle % 12]});
+    }
+
+    /**
+     * 年份的生肖，例如 2026 返回 马
+     */
+    public static char zodiac(int year) {
+        return ZODIACS[Math.floorMod(year - 4, 12)];
+    }
+
+    /**
+     * 公历某年第index个节气的日期
+     *
+     * @param year  公历年
+     * @param index 节气下标，0为小寒，见 {@link #SOLAR_TERM_NAMES}
+     * @return 纪元天数
+     */
+    public static long solarTermEpochDay(int year, int index) {
+        if (index < 0 || index >= TERM_COUNT) {
+            throw new IllegalArgumentException("solar term index out of range [0, 23]: " + index);
+        }
+        return TERM_EPOCH_DAY[yearIndex(year) * TERM_COUNT + index];
+    }
+
+    public static LocalDate solarTermDate(int year, int index) {
+        return LocalDate.ofEpochDay(solarTermEpochDay(year, index));
+    }
+
+    /**
+     * 某天是哪个节气
+     *
+     * @param epochDay 纪元天数（LocalDate.toEpochDay()），需在公历1900~2100年之间
+     * @return 节气下标，不是节气返回-1
+     */
+    public static int solarTermOf(long epochDay) {
+        if (epochDay < MIN_TERM_YEAR_EPOCH_DAY || epochDay > MAX_TERM_YEAR_EPOCH_DAY) {
+            throw new IllegalArgumentException("epochDay out of solar term range: " + epochDay);
+        }
+        int last = TERM_EPOCH_DAY.length - 1;
+        if (epochDay < TERM_EPOCH_DAY[0] || epochDay > TERM_EPOCH_DAY[last]) {
+            return -1;
+        }
+        int day = (int) epochDay;
+        int index = (int) Math.min((day - TERM_EPOCH_DAY[0]) * 10000L / MEAN_TERM, last);
+        while (TERM_EPOCH_DAY[index] > day) {
+            index--;
+        }
+        while (index < last && TERM_EPOCH_DAY[index + 1] <= day) {
+            index++;
+        }
+        return TERM_EPOCH_DAY[index] == day ? index % TERM_COUNT : -1;
+    }
+
+    /**
+     * 某天的节气名称
+     *
+     * @return 节气名称，不是节气返回null
+     */
+    public static String solarTermName(LocalDate date) {
+        int index = solarTermOf(date.toEpochDay());
+        return index < 0 ? null : SOLAR_TERM_NAMES[index];
+    }
+
+    /**
+     * 批量查询节气
+     *
+     * @param epochDays 纪元天数（LocalDate.toEpochDay()）
+     * @param indexes   输出的节气下标，不是节气为-1，长度不小于epochDays
+     */
+    public static void solarTermsOf(long[] epochDays, int[] indexes) {
+        checkLength(epochDays.length, indexes.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            indexes[i] = solarTermOf(epochDays[i]);
+        }
+    }
+
+    /**
+     * 按平均月长估算农历月序号，再按月初表微调
+     */
+    private static int monthOrdinal(int epochDay) {
+        int last = MONTH_KEY.length - 1;
+        int ordinal = (int) Math.min((epochDay - MONTH_START[0]) * 10000L / MEAN_MONTH, last);
+        while (MONTH_START[ordinal] > epochDay) {
+            ordinal--;
+        }
+        while (ordinal < last && MONTH_START[ordinal + 1] <= epochDay) {
+            ordinal++;
+        }
+        return ordinal;
+    }
+
+    private static int monthOrdinal(int year, int month, boolean leap) {
+        int index = yearIndex(year);
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("lunar month out of range [1, 12]: " + month);
+        }
+        int leapMonth = LUNAR_INFO[index] & 0xf;
+        if (leap && month != leapMonth) {
+            throw new IllegalArgumentException("lunar year " + year + " has no leap month " + month);
+        }
+        int ordinal = YEAR_FIRST_MONTH[index] + month - 1;
+        return leap || (leapMonth != 0 && month > leapMonth) ? ordinal + 1 : ordinal;
+    }
+
+    private static int key(int year, int month, boolean leap) {
+        return (year << YEAR_SHIFT) | (leap ? 1 << LEAP_SHIFT : 0) | (month << DAY_BITS);
+    }
+
+    private static int yearIndex(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new IllegalArgumentException("year out of range [" + MIN_YEAR + ", " + MAX_YEAR + "]: " + year);
+        }
+        return year - MIN_YEAR;
+    }
+
+    private static void checkLength(int sourceLength, int targetLength) {
+        if (targetLength < sourceLength) {
+            throw new IllegalArgumentException("output array too short: " + targetLength + " < " + sourceLength);
+        }
+    }
+
+    /**
+     * 农历日期
+     */
+    public static final class LunarDate {
+        private final int year;
+        private final int month;
+        private final int day;
+        private final boolean leap;
+
+        public LunarDate(int year, int month, int day, boolean leap) {
+            this.year = year;
+            this.month = month;
+            this.day = day;
+            this.leap = leap;
+        }
+
+        public int getYear() {
+            return year;
+        }
+
+        public int getMonth() {
+            return month;
+        }
+
+        public int getDay() {
+            return day;
+        }
+
+        public boolean isLeap() {
+            return leap;
+        }
+
+        public LocalDate toLocalDate() {
+            return LunarCalendarUtils.toLocalDate(year, month, day, leap);
+        }
+
+        public int toPacked() {
+            return pack(year, month, day, leap);
+        }
+
+        /**
+         * 例如 丙午年正月初一
+         */
+        @Override
+        public String toString() {
+            return ganzhiYear(year) + ChineseDateRenderer.YEAR + label(toPacked());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LunarDate)) {
+                return false;
+            }
+            LunarDate that = (LunarDate) o;
+            return year == that.year && month == that.month && day == that.day && leap == that.leap;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(year, month, day, leap);
+        }
+    }
+}
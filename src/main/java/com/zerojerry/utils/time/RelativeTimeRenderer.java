@@ -0,0 +1,158 @@
+package com.zerojerry.utils.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @Description 相对时间文案，例如 刚刚、N分钟前、N小时前、昨天 HH:mm，更早的显示为 yyyy年MM月dd日 HH点mm分。
+ * 只用整数运算确定所在区间：前几档直接返回预先生成的字符串；更早的日期按天缓存，每天每分钟的文案只生成一次。
+ * 线程安全，无锁。
+ * <pre>
+ * 不到1分钟（含未来时间）      刚刚
+ * 不到1小时                   N分钟前
+ * 今天且不到24小时             N小时前
+ * 昨天                        昨天 HH:mm
+ * 其他                        yyyy年MM月dd日 HH点mm分，与 {@link LocalDateTimeUtils#formatLocalDateTimeChinesize} 一致
+ * </pre>
+ * @Date 2026/10/20 14:10
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class RelativeTimeRenderer {
+    public static final String JUST_NOW = "刚刚";
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int MINUTES_PER_DAY = 1440;
+    /**
+     * 按天缓存的个数，需为2的幂
+     */
+    private static final int DAY_CACHE_SIZE = 64;
+    /**
+     * 查表渲染支持的日期范围，超出的直接交给DateTimeFormatter
+     */
+    private static final long MIN_EPOCH_DAY = LocalDate.of(1, 1, 1).toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    private static final String[] MINUTES_AGO = new String[60];
+    private static final String[] HOURS_AGO = new String[24];
+    private static final String[] YESTERDAY = new String[MINUTES_PER_DAY];
+
+    static {
+        for (int i = 1; i < MINUTES_AGO.length; i++) {
+            MINUTES_AGO[i] = i + "分钟前";
+        }
+        for (int i = 1; i < HOURS_AGO.length; i++) {
+            HOURS_AGO[i] = i + "小时前";
+        }
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            YESTERDAY[i] = "昨天 " + twoDigits(i / 60) + ":" + twoDigits(i % 60);
+        }
+    }
+
+    private final ZoneOffset offset;
+    private final int offsetSeconds;
+    private final AtomicReferenceArray<DayLabels> dayCache = new AtomicReferenceArray<>(DAY_CACHE_SIZE);
+
+    /**
+     * 东八区
+     */
+    public RelativeTimeRenderer() {
+        this(ZoneOffset.ofHours(8));
+    }
+
+    public RelativeTimeRenderer(ZoneOffset offset) {
+        this.offset = offset;
+        this.offsetSeconds = offset.getTotalSeconds();
+    }
+
+    /**
+     * @param epochSecond 要显示的秒级Unix时间戳
+     * @param nowSecond   当前的秒级Unix时间戳，同一页的数据传同一个值
+     * @return 相对时间文案
+     */
+    public String render(long epochSecond, long nowSecond) {
+        long elapsed = nowSecond - epochSecond;
+        if (elapsed < SECONDS_PER_MINUTE) {
+            return JUST_NOW;
+        }
+        if (elapsed < SECONDS_PER_HOUR) {
+            return MINUTES_AGO[(int) (elapsed / SECONDS_PER_MINUTE)];
+        }
+        long localSecond = epochSecond + offsetSeconds;
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        long nowEpochDay = Math.floorDiv(nowSecond + offsetSeconds, SECONDS_PER_DAY);
+        int minuteOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY) / SECONDS_PER_MINUTE;
+        if (epochDay == nowEpochDay) {
+            return HOURS_AGO[(int) (elapsed / SECONDS_PER_HOUR)];
+        }
+        if (epochDay == nowEpochDay - 1) {
+            return YESTERDAY[minuteOfDay];
+        }
+        return absolute(epochDay, minuteOfDay);
+    }
+
+    /**
+     * @param time 要显示的时间，按本实例的时区偏移解释
+     * @param now  当前时间，同一页的数据传同一个值
+     * @return 相对时间文案
+     */
+    public String render(LocalDateTime time, LocalDateTime now) {
+        return render(time.toEpochSecond(offset), now.toEpochSecond(offset));
+    }
+
+    private String absolute(long epochDay, int minuteOfDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            long localSecond = epochDay * SECONDS_PER_DAY + minuteOfDay * SECONDS_PER_MINUTE;
+            return LocalDateTimeUtils.formatLocalDateTimeChinesize(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC));
+        }
+        int index = (int) epochDay & (DAY_CACHE_SIZE - 1);
+        DayLabels day = dayCache.get(index);
+        if (day == null || day.epochDay != epochDay) {
+            day = new DayLabels(epochDay);
+            dayCache.set(index, day);
+        }
+        String label = day.labels[minuteOfDay];
+        if (label == null) {
+            // 并发时可能重复生成，结果相同，不影响正确性
+            label = day.label(minuteOfDay);
+            day.labels[minuteOfDay] = label;
+        }
+        return label;
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    /**
+     * 某一天的文案缓存：日期部分只格式化一次，每分钟的完整文案首次用到时生成
+     */
+    private static final class DayLabels {
+        private final long epochDay;
+        private final char[] prefix;
+        private final String[] labels = new String[MINUTES_PER_DAY];
+
+        DayLabels(long epochDay) {
+            this.epochDay = epochDay;
+            LocalDateTime start = LocalDateTime.ofEpochSecond(epochDay * SECONDS_PER_DAY, 0, ZoneOffset.UTC);
+            this.prefix = new char[ChineseDateRenderer.DATETIME_LENGTH];
+            ChineseDateRenderer.renderDateTime(start, prefix, 0);
+        }
+
+        String label(int minuteOfDay) {
+            char[] buf = prefix.clone();
+            // 替换 HH点mm分 中的数字
+            int hour = minuteOfDay / 60;
+            int minute = minuteOfDay % 60;
+            buf[12] = (char) ('0' + hour / 10);
+            buf[13] = (char) ('0' + hour % 10);
+            buf[15] = (char) ('0' + minute / 10);
+            buf[16] = (char) ('0' + minute % 10);
+            return new String(buf);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.zerojerry.utils.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.zerojerry.utils.time.LocalDateTimeUtils.ZONE_ID_SH;
+
+/**
+ * @Description 按时间分桶的无锁计数器，例如按秒、按分钟、按小时统计事件数，并支持"最近5分钟"、"今天截至目前"这样的滑动窗口求和。
+ * <p>
+ * 桶按 所在时区的本地秒数 / 桶长度 编号，所以按天、按小时的桶与该时区的零点、整点对齐（桶长度需能整除86400）；
+ * 夏令时切换时重复的本地时段计入同一个桶。桶放入固定大小的环形数组，每个桶再按线程分成多个条带，减少写冲突。
+ * 每个格子是一个long：高32位记录桶编号，低32位记录计数，过期的格子在下一次写入时通过同一个CAS重置，
+ * 所以一次计数只需要一次CAS，不分配对象。只保留截至当前时间的最近 buckets 个桶，更早的数据自动丢弃，
+ * 写入更早或晚于当前桶的时间会被拒绝。时区偏移按所在的夏令时区间缓存，只有跨过切换点时才重新查询ZoneRules。
+ * 每个条带每个桶的计数上限为 2^32-1。
+ * @Date 2026/10/20 11:00
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class TimeBucketCounter {
+    private static final int COUNT_BITS = 32;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    /**
+     * 同一个桶的相邻条带之间至少间隔一个缓存行（8个long），避免伪共享
+     */
+    private static final int PADDING = 8;
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private final long bucketSeconds;
+    private final int buckets;
+    private final int stripeMask;
+    private final int stride;
+    private final ZoneRules rules;
+    /**
+     * 最近一次用到的时区偏移及其有效区间
+     */
+    private volatile OffsetWindow offsetWindow;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param bucketSeconds 每个桶的秒数，例如1、60、3600
+     * @param buckets       保留的桶个数，决定最长可查询的窗口
+     */
+    public TimeBucketCounter(long bucketSeconds, int buckets) {
+        this(bucketSeconds, buckets, Runtime.getRuntime().availableProcessors(), ZONE_ID_SH);
+    }
+
+    /**
+     * @param bucketSeconds 每个桶的秒数，例如1、60、3600
+     * @param buckets       保留的桶个数，决定最长可查询的窗口
+     * @param stripes       条带数，会向上取整为2的幂，一般取CPU核数
+     * @param zone          桶对齐和计算"今天"所用的时区
+     */
+    public TimeBucketCounter(long bucketSeconds, int buckets, int stripes, ZoneId zone) {
+        if (bucketSeconds <= 0) {
+            throw new IllegalArgumentException("bucketSeconds must be positive: " + bucketSeconds);
+        }
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("buckets must be positive: " + buckets);
+        }
+        if (stripes <= 0 || stripes > (1 << 16)) {
+            throw new IllegalArgumentException("stripes out of range: " + stripes);
+        }
+        if (null == zone) {
+            throw new IllegalStateException();
+        }
+        int stripeCount = Integer.highestOneBit(((stripes - 1) << 1) | 1);
+        this.bucketSeconds = bucketSeconds;
+        this.buckets = buckets;
+        this.stripeMask = stripeCount - 1;
+        this.stride = buckets + PADDING;
+        this.rules = zone.getRules();
+        this.offsetWindow = OffsetWindow.of(rules, currentSecond());
+        this.cells = new AtomicLongArray(Math.multiplyExact(stripeCount, stride));
+    }
+
+    /**
+     * 当前时间计数加一
+     */
+    public void increment() {
+        long now = localSecond(currentSecond());
+        addLocal(now, 1, now);
+    }
+
+    /**
+     * 指定时间计数加一
+     *
+     * @param epochSecond 秒级Unix时间戳
+     * @return false：该时间早于保留的窗口、晚于当前桶，或所在的格子已被更新的桶占用，计数被丢弃
+     */
+    public boolean increment(long epochSecond) {
+        return add(epochSecond, 1);
+    }
+
+    /**
+     * 指定时间计数增加delta
+     *
+     * @param epochSecond 秒级Unix时间戳
+     * @param delta       增量，不能为负数
+     * @return false：该时间早于保留的窗口、晚于当前桶，或所在的格子已被更新的桶占用，计数被丢弃
+     */
+    public boolean add(long epochSecond, long delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("delta must not be negative: " + delta);
+        }
+        return addLocal(localSecond(epochSecond), delta, localSecond(currentSecond()));
+    }
+
+    private boolean addLocal(long localSecond, long delta, long nowLocalSecond) {
+        long bucket = Math.floorDiv(localSecond, bucketSeconds);
+        long nowBucket = Math.floorDiv(nowLocalSecond, bucketSeconds);
+        if (bucket <= nowBucket - buckets || bucket > nowBucket) {
+            // 未来的桶会提前占用仍在保留范围内的格子，同样拒绝
+            return false;
+        }
+        int tag = (int) bucket;
+        int index = stripe() * stride + slotOf(bucket);
+        while (true) {
+            long cell = cells.get(index);
+            int cellTag = (int) (cell >>> COUNT_BITS);
+            long next;
+            if (cellTag == tag) {
+                // 计数达到上限时不再增加，避免溢出到桶编号
+                next = cell + Math.min(delta, COUNT_MASK - (cell & COUNT_MASK));
+            } else if (cellTag - tag > 0 && cell != 0) {
+                // 格子已经属于更新的桶
+                return false;
+            } else {
+                next = ((long) tag << COUNT_BITS) | Math.min(delta, COUNT_MASK);
+            }
+            if (cells.compareAndSet(index, cell, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 指定时间所在桶的计数
+     *
+     * @param epochSecond 秒级Unix时间戳
+     * @return 计数，已过期的桶返回0
+     */
+    public long get(long epochSecond) {
+        return bucketSum(Math.floorDiv(localSecond(epochSecond), bucketSeconds));
+    }
+
+    /**
+     * [fromSecond, toSecond) 覆盖到的所有桶的计数之和，只统计仍保留的桶。结束时间晚于当前时间时按当前时间计算。
+     * 起止时间不在桶的边界上时，整个桶都计入。
+     *
+     * @param fromSecond 开始的秒级Unix时间戳（包含）
+     * @param toSecond   结束的秒级Unix时间戳（不包含）
+     * @return 计数之和
+     */
+    public long sum(long fromSecond, long toSecond) {
+        if (fromSecond >= toSecond) {
+            return 0;
+        }
+        return sumLocal(localSecond(fromSecond), localSecond(toSecond - 1), localSecond(currentSecond()));
+    }
+
+    /**
+     * 本地秒数 [fromLocal, lastLocal] 覆盖到的桶的计数之和，结束时间晚于当前时间时按当前时间计算
+     */
+    private long sumLocal(long fromLocal, long lastLocal, long nowLocal) {
+        long lastBucket = Math.floorDiv(Math.min(lastLocal, nowLocal), bucketSeconds);
+        long firstBucket = Math.max(Math.floorDiv(fromLocal, bucketSeconds), lastBucket - buckets + 1);
+        long total = 0;
+        for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            total += bucketSum(bucket);
+        }
+        return total;
+    }
+
+    /**
+     * 最近若干秒（含当前桶）的计数之和，例如 sumLast(300) 为最近5分钟
+     *
+     * @param seconds 窗口秒数
+     * @return 计数之和
+     */
+    public long sumLast(long seconds) {
+        long now = currentSecond();
+        return sum(now - seconds + 1, now + 1);
+    }
+
+    /**
+     * 今天0时0分0秒到现在的计数之和，按配置的时区计算当天的开始，超出保留范围的部分不计入。
+     * 桶长度能整除86400时，当天的开始正好是桶的边界，结果精确。
+     *
+     * @return 计数之和
+     */
+    public long sumToday() {
+        long now = localSecond(currentSecond());
+        return sumLocal(Math.floorDiv(now, SECONDS_PER_DAY) * SECONDS_PER_DAY, now, now);
+    }
+
+    private long bucketSum(long bucket) {
+        int tag = (int) bucket;
+        int slot = slotOf(bucket);
+        long total = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            long cell = cells.get(stripe * stride + slot);
+            if ((int) (cell >>> COUNT_BITS) == tag) {
+                total += cell & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    private int slotOf(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets);
+    }
+
+    /**
+     * 按线程固定分配条带
+     */
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & stripeMask;
+    }
+
+    /**
+     * Unix时间戳加上所在时区的偏移
+     */
+    private long localSecond(long epochSecond) {
+        OffsetWindow window = offsetWindow;
+        if (epochSecond < window.from || epochSecond >= window.to) {
+            window = OffsetWindow.of(rules, epochSecond);
+            offsetWindow = window;
+        }
+        return epochSecond + window.offsetSeconds;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    /**
+     * 时区偏移及其有效的Unix时间戳区间 [from, to)，即相邻两次偏移切换之间
+     */
+    private static final class OffsetWindow {
+        private final long from;
+        private final long to;
+        private final int offsetSeconds;
+
+        private OffsetWindow(long from, long to, int offsetSeconds) {
+            this.from = from;
+            this.to = to;
+            this.offsetSeconds = offsetSeconds;
+        }
+
+        static OffsetWindow of(ZoneRules rules, long epochSecond) {
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            int offset = rules.getOffset(instant).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                return new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+            }
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            // 恰好落在切换点上时previousTransition返回的是更早的一次，区间从当前时间开始
+            long from = previous != null && previous.getOffsetAfter().getTotalSeconds() == offset
+                    ? previous.toEpochSecond() : epochSecond;
+            long to = next != null ? next.toEpochSecond() : Long.MAX_VALUE;
+            return new OffsetWindow(from, to, offset);
+        }
+    }
+}
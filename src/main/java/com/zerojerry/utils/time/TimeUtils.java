@@ -208,24 +208,7 @@ public class TimeUtils {
             return StringUtils.EMPTY;
         }
         //获取考勤日期是周几
-        switch (dayOfWeek) {
-            case MONDAY:
-                return "星期一";
-            case TUESDAY:
-                return "星期二";
-            case WEDNESDAY:
-                return "星期三";
-            case THURSDAY:
-                return "星期四";
-            case FRIDAY:
-                return "星期五";
-            case SATURDAY:
-                return "星期六";
-            case SUNDAY:
-                return "星期天";
-            default:
-                return StringUtils.EMPTY;
-        }
+        return ChineseDateRenderer.dayOfWeekLabel(dayOfWeek);
     }
 
 }
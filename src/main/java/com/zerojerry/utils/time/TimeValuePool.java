@@ -0,0 +1,215 @@
+package com.zerojerry.utils.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.zerojerry.utils.time.LocalDateTimeUtils.ZONE_ID_SH;
+
+/**
+ * @Description LocalDate、整点/整分LocalDateTime的享元池，大量缓存记录共用同一批实例以节省堆内存。
+ * <ul>
+ * <li>LocalDate：在配置的日期范围内按纪元天数直接下标取值，首次访问时创建，之后始终返回同一个实例；范围外照常新建。</li>
+ * <li>LocalDateTime：只缓存按小时或分钟对齐、且在当前时间之前一个窗口内的值，按对齐后的时间戳取模放入固定大小的环形表，
+ * 缓存的实例复用池中的LocalDate；未对齐的值原样返回，窗口外的值不放入环形表，以免加载历史数据时挤掉最近的实例。</li>
+ * </ul>
+ * 线程安全，无锁。
+ * @Date 2026/10/20 09:30
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class TimeValuePool {
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final int DEFAULT_DATE_TIME_SLOTS = 24 * 31;
+
+    /**
+     * 整分的LocalTime，下标为当天的分钟数
+     */
+    private static final LocalTime[] MINUTE_TIMES = new LocalTime[MINUTES_PER_DAY];
+
+    static {
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            MINUTE_TIMES[i] = LocalTime.of(i / 60, i % 60);
+        }
+    }
+
+    private final ZoneId zone;
+    private final long minEpochDay;
+    private final long maxEpochDay;
+    private final AtomicReferenceArray<LocalDate> dates;
+
+    /**
+     * LocalDateTime的对齐粒度（分钟）
+     */
+    private final int alignMinutes;
+    private final AtomicReferenceArray<LocalDateTime> dateTimes;
+
+    /**
+     * 缓存指定日期范围，LocalDateTime按小时对齐，保留最近31天
+     *
+     * @param minDate 最小日期（包含）
+     * @param maxDate 最大日期（包含）
+     */
+    public TimeValuePool(LocalDate minDate, LocalDate maxDate) {
+        this(minDate, maxDate, ChronoUnit.HOURS, DEFAULT_DATE_TIME_SLOTS, ZONE_ID_SH);
+    }
+
+    /**
+     * @param minDate       最小日期（包含）
+     * @param maxDate       最大日期（包含）
+     * @param alignUnit     LocalDateTime的对齐粒度，HOURS 或 MINUTES
+     * @param dateTimeSlots LocalDateTime环形表的大小，即当前时间之前保留的窗口长度（以对齐粒度计）
+     * @param zone          Unix时间戳转换所用的时区
+     */
+    public TimeValuePool(LocalDate minDate, LocalDate maxDate, ChronoUnit alignUnit, int dateTimeSlots, ZoneId zone) {
+        if (null == minDate || null == maxDate || null == zone) {
+            throw new IllegalStateException();
+        }
+        long days = maxDate.toEpochDay() - minDate.toEpochDay() + 1;
+        if (days <= 0 || days > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid date range: " + minDate + " ~ " + maxDate);
+        }
+        if (alignUnit != ChronoUnit.HOURS && alignUnit != ChronoUnit.MINUTES) {
+            throw new IllegalArgumentException("alignUnit must be HOURS or MINUTES: " + alignUnit);
+        }
+        if (dateTimeSlots <= 0) {
+            throw new IllegalArgumentException("dateTimeSlots must be positive: " + dateTimeSlots);
+        }
+        this.zone = zone;
+        this.minEpochDay = minDate.toEpochDay();
+        this.maxEpochDay = maxDate.toEpochDay();
+        this.dates = new AtomicReferenceArray<>((int) days);
+        this.alignMinutes = alignUnit == ChronoUnit.HOURS ? 60 : 1;
+        this.dateTimes = new AtomicReferenceArray<>(dateTimeSlots);
+    }
+
+    /**
+     * 纪元天数转LocalDate
+     *
+     * @param epochDay 纪元天数
+     * @return 范围内返回共享实例，范围外新建
+     */
+    public LocalDate date(long epochDay) {
+        if (epochDay < minEpochDay || epochDay > maxEpochDay) {
+            return LocalDate.ofEpochDay(epochDay);
+        }
+        int index = (int) (epochDay - minEpochDay);
+        LocalDate date = dates.get(index);
+        if (date != null) {
+            return date;
+        }
+        date = LocalDate.ofEpochDay(epochDay);
+        return dates.compareAndSet(index, null, date) ? date : dates.get(index);
+    }
+
+    /**
+     * 把已有的LocalDate换成共享实例
+     */
+    public LocalDate intern(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < minEpochDay || epochDay > maxEpochDay) {
+            return date;
+        }
+        int index = (int) (epochDay - minEpochDay);
+        LocalDate pooled = dates.get(index);
+        if (pooled != null) {
+            return pooled;
+        }
+        return dates.compareAndSet(index, null, date) ? date : dates.get(index);
+    }
+
+    /**
+     * 秒级Unix时间戳转LocalDate，相当于 {@link LocalDateUtils#secondUnix2LocalDate(Long)}
+     */
+    public LocalDate dateOfEpochSecond(long second) {
+        return date(Math.floorDiv(localEpochSecond(second), SECONDS_PER_DAY));
+    }
+
+    /**
+     * 毫秒级Unix时间戳转LocalDate，相当于 {@link LocalDateUtils#unix2LocalDate(Long)}
+     */
+    public LocalDate dateOfEpochMilli(long millis) {
+        return dateOfEpochSecond(Math.floorDiv(millis, 1000L));
+    }
+
+    /**
+     * 把已有的LocalDateTime换成共享实例，未对齐或不在窗口内的原样返回
+     */
+    public LocalDateTime intern(LocalDateTime dateTime) {
+        if (dateTime.getNano() != 0 || dateTime.getSecond() != 0 || dateTime.getMinute() % alignMinutes != 0) {
+            return dateTime;
+        }
+        long epochDay = dateTime.toLocalDate().toEpochDay();
+        int minuteOfDay = dateTime.getHour() * 60 + dateTime.getMinute();
+        if (!inWindow(epochDay * MINUTES_PER_DAY + minuteOfDay)) {
+            return dateTime;
+        }
+        return pooledDateTime(epochDay, minuteOfDay);
+    }
+
+    /**
+     * 秒级Unix时间戳转LocalDateTime，对齐的值返回共享实例
+     */
+    public LocalDateTime dateTimeOfEpochSecond(long second) {
+        long localSecond = localEpochSecond(second);
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        int minuteOfDay = secondOfDay / 60;
+        if (secondOfDay % 60 != 0 || minuteOfDay % alignMinutes != 0) {
+            return LocalDateTime.of(date(epochDay), LocalTime.ofSecondOfDay(secondOfDay));
+        }
+        if (!inWindow(epochDay * MINUTES_PER_DAY + minuteOfDay)) {
+            return LocalDateTime.of(date(epochDay), MINUTE_TIMES[minuteOfDay]);
+        }
+        return pooledDateTime(epochDay, minuteOfDay);
+    }
+
+    /**
+     * 从环形表取出对齐的时间，没有则用池中的LocalDate和整分的LocalTime创建并放入
+     */
+    private LocalDateTime pooledDateTime(long epochDay, int minuteOfDay) {
+        int index = slotOf(epochDay * MINUTES_PER_DAY + minuteOfDay);
+        LocalDateTime pooled = dateTimes.get(index);
+        if (pooled != null && pooled.getMinute() == minuteOfDay % 60 && pooled.getHour() == minuteOfDay / 60
+                && pooled.toLocalDate().toEpochDay() == epochDay) {
+            return pooled;
+        }
+        return publish(index, pooled, LocalDateTime.of(date(epochDay), MINUTE_TIMES[minuteOfDay]));
+    }
+
+    /**
+     * 是否在 (当前时间 - 窗口长度, 当前时间] 之内，按本地时间的分钟数比较
+     */
+    private boolean inWindow(long epochMinute) {
+        long nowMinute = Math.floorDiv(localEpochSecond(System.currentTimeMillis() / 1000), 60);
+        return epochMinute <= nowMinute && epochMinute > nowMinute - (long) dateTimes.length() * alignMinutes;
+    }
+
+    /**
+     * 用value替换格子里原来的expected。其他线程抢先写入了同一时间时返回对方的实例，与 {@link #date(long)} 一致；
+     * 格子已被其他时间占用时，value原样返回，不放入环形表。
+     */
+    private LocalDateTime publish(int index, LocalDateTime expected, LocalDateTime value) {
+        if (dateTimes.compareAndSet(index, expected, value)) {
+            return value;
+        }
+        LocalDateTime current = dateTimes.get(index);
+        return value.equals(current) ? current : value;
+    }
+
+    private int slotOf(long epochMinute) {
+        return (int) Math.floorMod(Math.floorDiv(epochMinute, alignMinutes), (long) dateTimes.length());
+    }
+
+    /**
+     * Unix时间戳加上所在时区的偏移
+     */
+    private long localEpochSecond(long second) {
+        return second + zone.getRules().getOffset(Instant.ofEpochSecond(second)).getTotalSeconds();
+    }
+}
@@ -0,0 +1,359 @@
+package com.zerojerry.utils.time;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+/**
+ * @Description 时间戳列的压缩编码：按固定大小分块，每块记录最小值、最大值，块内按"差值的差值"做zigzag变长编码。
+ * 适合 {@link TimeUtils#getCurrUnixTime()}、{@link LocalDateTimeUtils#getSecondsByTime} 产生的有序秒级时间戳，
+ * 无序数据同样可以编码，只是压缩率较低。
+ * <p>
+ * 格式（字节序取缓冲区自身的字节序，编码、解码需一致，默认大端）：
+ * <pre>
+ * 头部   int magic, int count, int blockSize, int blockCount, int totalBytes
+ * 索引   blockCount 个 (long min, long max, int payloadOffset)，payloadOffset 相对于列的起始位置
+ * 数据   每块：zigzag(first - min)、zigzag(第一个差值)、zigzag(差值的差值)...，均为varint
+ * </pre>
+ * 解码直接读取缓冲区，不创建中间对象；区间查询利用块的最小值、最大值整块跳过或整块计数。
+ * @Date 2026/10/19 19:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class TimestampColumnCodec {
+    private TimestampColumnCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    /**
+     * "TSC1"
+     */
+    private static final int MAGIC = 0x54534331;
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES + Integer.BYTES;
+    private static final int MAX_VARINT_BYTES = 10;
+    /**
+     * 块大小上限，保证一个块的编码缓冲区不超过int范围
+     */
+    public static final int MAX_BLOCK_SIZE = Integer.MAX_VALUE / MAX_VARINT_BYTES;
+
+    /**
+     * 编码后可能的最大字节数，用于预先分配缓冲区
+     *
+     * @param count     时间戳个数
+     * @param blockSize 块大小，1 ~ MAX_BLOCK_SIZE
+     * @return 最大字节数
+     */
+    public static long maxEncodedLength(int count, int blockSize) {
+        checkBlockSize(blockSize);
+        return HEADER_BYTES + (long) blockCount(count, blockSize) * INDEX_ENTRY_BYTES + (long) count * MAX_VARINT_BYTES;
+    }
+
+    public static int encode(long[] values, ByteBuffer dst) {
+        return encode(values, DEFAULT_BLOCK_SIZE, dst);
+    }
+
+    /**
+     * 编码到缓冲区的当前位置，并推进缓冲区的position
+     *
+     * @param values    时间戳
+     * @param blockSize 块大小，1 ~ MAX_BLOCK_SIZE
+     * @param dst       目标缓冲区，剩余空间不够时抛出 BufferOverflowException
+     * @return 写入的字节数
+     */
+    public static int encode(long[] values, int blockSize, ByteBuffer dst) {
+        checkBlockSize(blockSize);
+        int base = dst.position();
+        int blockCount = blockCount(values.length, blockSize);
+        int indexPos = base + HEADER_BYTES;
+        int payloadPos = Math.toIntExact(indexPos + (long) blockCount * INDEX_ENTRY_BYTES);
+        dst.position(payloadPos);
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * blockSize;
+            int to = (int) Math.min((long) from + blockSize, values.length);
+            putIndexEntry(dst, indexPos + block * INDEX_ENTRY_BYTES, values, from, to, dst.position() - base);
+            encodeBlock(values, from, to, dst);
+        }
+        int totalBytes = dst.position() - base;
+        putHeader(dst, base, values.length, blockSize, blockCount, totalBytes);
+        return totalBytes;
+    }
+
+    /**
+     * 编码后写入文件，文件已存在时覆盖。逐块写出，不需要一次性分配整列的缓冲区。
+     *
+     * @param file      文件
+     * @param values    时间戳
+     * @param blockSize 块大小，1 ~ MAX_BLOCK_SIZE
+     * @throws IOException 写文件失败
+     */
+    public static void write(Path file, long[] values, int blockSize) throws IOException {
+        checkBlockSize(blockSize);
+        int blockCount = blockCount(values.length, blockSize);
+        ByteBuffer headerAndIndex = ByteBuffer.allocate(Math.toIntExact(HEADER_BYTES + (long) blockCount * INDEX_ENTRY_BYTES));
+        // 数组比块小时按数组长度分配
+        ByteBuffer blockBuffer = ByteBuffer.allocateDirect(Math.min(blockSize, Math.max(values.length, 1)) * MAX_VARINT_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long payloadOffset = headerAndIndex.capacity();
+            channel.position(payloadOffset);
+            for (int block = 0; block < blockCount; block++) {
+                int from = block * blockSize;
+                int to = (int) Math.min((long) from + blockSize, values.length);
+                putIndexEntry(headerAndIndex, HEADER_BYTES + block * INDEX_ENTRY_BYTES, values, from, to,
+                        Math.toIntExact(payloadOffset));
+                blockBuffer.clear();
+                encodeBlock(values, from, to, blockBuffer);
+                blockBuffer.flip();
+                payloadOffset += blockBuffer.remaining();
+                while (blockBuffer.hasRemaining()) {
+                    channel.write(blockBuffer);
+                }
+            }
+            putHeader(headerAndIndex, 0, values.length, blockSize, blockCount, Math.toIntExact(payloadOffset));
+            headerAndIndex.clear();
+            while (headerAndIndex.hasRemaining()) {
+                channel.write(headerAndIndex, headerAndIndex.position());
+            }
+        }
+    }
+
+    public static void write(Path file, long[] values) throws IOException {
+        write(file, values, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * 以只读方式映射文件，返回的缓冲区可以直接传给各个读取方法，列的起始位置为0
+     *
+     * @param file 文件
+     * @return 只读的内存映射缓冲区
+     * @throws IOException 读文件失败
+     */
+    public static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * 时间戳个数
+     *
+     * @param src  缓冲区
+     * @param base 列在缓冲区中的起始位置
+     */
+    public static int count(ByteBuffer src, int base) {
+        checkHeader(src, base);
+        return src.getInt(base + Integer.BYTES);
+    }
+
+    /**
+     * 编码后的总字节数
+     *
+     * @param src  缓冲区
+     * @param base 列在缓冲区中的起始位置
+     */
+    public static int encodedLength(ByteBuffer src, int base) {
+        checkHeader(src, base);
+        return src.getInt(base + 4 * Integer.BYTES);
+    }
+
+    /**
+     * 全部解码到数组
+     *
+     * @param src       缓冲区
+     * @param base      列在缓冲区中的起始位置
+     * @param dst       目标数组，长度至少为 dstOffset + count
+     * @param dstOffset 目标数组的起始位置
+     * @return 解码的个数
+     */
+    public static int decode(ByteBuffer src, int base, long[] dst, int dstOffset) {
+        return scan(src, base, Long.MIN_VALUE, Long.MAX_VALUE, false, dst, dstOffset, null);
+    }
+
+    /**
+     * 逐个解码并回调
+     *
+     * @param src      缓冲区
+     * @param base     列在缓冲区中的起始位置
+     * @param consumer 回调
+     */
+    public static void forEach(ByteBuffer src, int base, LongConsumer consumer) {
+        scan(src, base, Long.MIN_VALUE, Long.MAX_VALUE, false, null, 0, consumer);
+    }
+
+    /**
+     * 统计在 [from, to) 内的时间戳个数。完全在区间内或区间外的块不解码。
+     *
+     * @param src  缓冲区
+     * @param base 列在缓冲区中的起始位置
+     * @param from 开始（包含）
+     * @param to   结束（不包含）
+     * @return 个数
+     */
+    public static int countInRange(ByteBuffer src, int base, long from, long to) {
+        if (from >= to) {
+            return 0;
+        }
+        return scan(src, base, from, to - 1, true, null, 0, null);
+    }
+
+    /**
+     * 解码在 [from, to) 内的时间戳，保持原有顺序。完全在区间外的块不解码。
+     *
+     * @param src       缓冲区
+     * @param base      列在缓冲区中的起始位置
+     * @param from      开始（包含）
+     * @param to        结束（不包含）
+     * @param dst       目标数组，长度需要足够容纳命中的时间戳，可以先用 countInRange 计算
+     * @param dstOffset 目标数组的起始位置
+     * @return 解码的个数
+     */
+    public static int decodeInRange(ByteBuffer src, int base, long from, long to, long[] dst, int dstOffset) {
+        if (from >= to) {
+            return 0;
+        }
+        return scan(src, base, from, to - 1, false, dst, dstOffset, null);
+    }
+
+    /**
+     * 逐块扫描 [lo, hi] 内的值
+     *
+     * @param countOnly 为true时完全落在区间内的块直接计数，不解码
+     */
+    private static int scan(ByteBuffer src, int base, long lo, long hi, boolean countOnly,
+                            long[] dst, int dstOffset, LongConsumer consumer) {
+        checkHeader(src, base);
+        int count = src.getInt(base + Integer.BYTES);
+        int blockSize = src.getInt(base + 2 * Integer.BYTES);
+        int blockCount = src.getInt(base + 3 * Integer.BYTES);
+        int written = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int entry = base + HEADER_BYTES + block * INDEX_ENTRY_BYTES;
+            long min = src.getLong(entry);
+            long max = src.getLong(entry + Long.BYTES);
+            if (max < lo || min > hi) {
+                continue;
+            }
+            int n = Math.min(blockSize, count - block * blockSize);
+            if (countOnly && min >= lo && max <= hi) {
+                written += n;
+                continue;
+            }
+            int payloadPos = base + src.getInt(entry + 2 * Long.BYTES);
+            written += decodeBlock(src, payloadPos, n, min, lo, hi, dst, dstOffset + written, consumer);
+        }
+        return written;
+    }
+
+    private static int decodeBlock(ByteBuffer src, int pos, int n, long min, long lo, long hi,
+                                   long[] dst, int dstOffset, LongConsumer consumer) {
+        int written = 0;
+        long value = 0;
+        long delta = 0;
+        for (int i = 0; i < n; i++) {
+            long raw = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = src.get(pos++);
+                raw |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            long decoded = (raw >>> 1) ^ -(raw & 1);
+            if (i == 0) {
+                value = min + decoded;
+            } else if (i == 1) {
+                delta = decoded;
+                value += delta;
+            } else {
+                delta += decoded;
+                value += delta;
+            }
+            if (value >= lo && value <= hi) {
+                if (dst != null) {
+                    dst[dstOffset + written] = value;
+                }
+                if (consumer != null) {
+                    consumer.accept(value);
+                }
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static void encodeBlock(long[] values, int from, int to, ByteBuffer dst) {
+        long min = min(values, from, to);
+        long prev = values[from];
+        long prevDelta = 0;
+        putVarint(dst, zigzag(prev - min));
+        for (int i = from + 1; i < to; i++) {
+            long delta = values[i] - prev;
+            putVarint(dst, zigzag(i == from + 1 ? delta : delta - prevDelta));
+            prevDelta = delta;
+            prev = values[i];
+        }
+    }
+
+    private static void putIndexEntry(ByteBuffer dst, int pos, long[] values, int from, int to, int payloadOffset) {
+        long min = values[from];
+        long max = values[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        dst.putLong(pos, min);
+        dst.putLong(pos + Long.BYTES, max);
+        dst.putInt(pos + 2 * Long.BYTES, payloadOffset);
+    }
+
+    private static void putHeader(ByteBuffer dst, int base, int count, int blockSize, int blockCount, int totalBytes) {
+        dst.putInt(base, MAGIC);
+        dst.putInt(base + Integer.BYTES, count);
+        dst.putInt(base + 2 * Integer.BYTES, blockSize);
+        dst.putInt(base + 3 * Integer.BYTES, blockCount);
+        dst.putInt(base + 4 * Integer.BYTES, totalBytes);
+    }
+
+    private static void putVarint(ByteBuffer dst, long value) {
+        while ((value & ~0x7FL) != 0) {
+            dst.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        dst.put((byte) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long min(long[] values, int from, int to) {
+        long min = values[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    private static int blockCount(int count, int blockSize) {
+        return (int) (((long) count + blockSize - 1) / blockSize);
+    }
+
+    private static void checkBlockSize(int blockSize) {
+        if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("blockSize out of range [1, " + MAX_BLOCK_SIZE + "]: " + blockSize);
+        }
+    }
+
+    private static void checkHeader(ByteBuffer src, int base) {
+        if (src.getInt(base) != MAGIC) {
+            throw new IllegalArgumentException("not a timestamp column at position " + base);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.zerojerry.utils.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.zerojerry.utils.time.LocalDateTimeUtils.ZONE_ID_SH;
+
+/**
+ * @Description 分层时间轮定时器。支持自然时间延迟和工作时间延迟（按 {@link WorkingMinutesCalculator} 的工作日历计算）。
+ * 插入、取消都是O(1)；工作时间延迟只在所在的格子即将到期时才按日历计算真正的到期时间。
+ * @Date 2026/10/19 10:12
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class TimingWheelScheduler implements AutoCloseable {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final int DEFAULT_LEVELS = 5;
+
+    /**
+     * 每一格的时长（毫秒）
+     */
+    private final long tickMillis;
+    private final int levels;
+    /**
+     * 最高层能表示的最大tick跨度，超过的先放在最高层，下沉时重新计算
+     */
+    private final long maxSpan;
+    private final Bucket[][] wheels;
+
+    private final ZoneId zone;
+    private final WorkingMinutesCalculator calendar = new WorkingMinutesCalculator();
+    private final Executor executor;
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+    /**
+     * 下一个待处理的tick，只由工作线程读写
+     */
+    private long currentTick;
+
+    public TimingWheelScheduler() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_LEVELS, ZONE_ID_SH, Runnable::run);
+    }
+
+    public TimingWheelScheduler(Executor executor) {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_LEVELS, ZONE_ID_SH, executor);
+    }
+
+    /**
+     * @param tickMillis 每一格的时长（毫秒）
+     * @param levels     层数，每层64格
+     * @param zone       工作时间计算所用的时区
+     * @param executor   到期任务的执行器，传 Runnable::run 则直接在时间轮线程上执行
+     */
+    public TimingWheelScheduler(long tickMillis, int levels, ZoneId zone, Executor executor) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (levels <= 0 || levels * WHEEL_BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("levels out of range: " + levels);
+        }
+        if (null == zone || null == executor) {
+            throw new IllegalStateException();
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.maxSpan = (1L << (levels * WHEEL_BITS)) - 1;
+        this.zone = zone;
+        this.executor = executor;
+        this.wheels = new Bucket[levels][WHEEL_SIZE];
+        for (int level = 0; level < levels; level++) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheels[level][i] = new Bucket();
+            }
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, "timing-wheel-scheduler");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 按自然时间延迟执行
+     *
+     * @param task  任务
+     * @param delay 延迟
+     * @param unit  延迟单位
+     * @return 可取消的句柄
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadlineTick = tickOf(saturatedAdd(elapsedMillis(), Math.max(0, unit.toMillis(delay))));
+        return submit(new Timeout(this, task, deadlineTick, null, 0));
+    }
+
+    /**
+     * 按工作时间延迟执行，例如"4个工作小时后升级"。
+     * 工作分钟数不会比自然分钟数走得快，所以先按自然时间放入时间轮，到期时再按日历算出真正的到期时间。
+     *
+     * @param task           任务
+     * @param workingMinutes 工作分钟数
+     * @return 可取消的句柄
+     */
+    public Timeout scheduleAfterWorkingMinutes(Runnable task, long workingMinutes) {
+        if (workingMinutes < 0) {
+            throw new IllegalArgumentException("workingMinutes must not be negative: " + workingMinutes);
+        }
+        LocalDateTime startTime = LocalDateTime.now(zone);
+        long deadlineTick = tickOf(saturatedAdd(elapsedMillis(), TimeUnit.MINUTES.toMillis(workingMinutes)));
+        return submit(new Timeout(this, task, deadlineTick, startTime, workingMinutes));
+    }
+
+    /**
+     * 停止时间轮，未到期的任务不再执行
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private Timeout submit(Timeout timeout) {
+        if (!running) {
+            throw new IllegalStateException("scheduler has been closed");
+        }
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 非负毫秒数向上取整到tick
+     */
+    private long tickOf(long millis) {
+        return millis / tickMillis + (millis % tickMillis == 0 ? 0 : 1);
+    }
+
+    /**
+     * 两个非负数相加，溢出时取Long.MAX_VALUE
+     */
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private void run() {
+        try {
+            loop();
+        } catch (Error e) {
+            // 工作线程即将退出，拒绝后续提交
+            running = false;
+            throw e;
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            long targetTick = elapsedMillis() / tickMillis;
+            if (currentTick > targetTick) {
+                try {
+                    Thread.sleep((currentTick - targetTick) * tickMillis);
+                } catch (InterruptedException e) {
+                    // close() 会打断睡眠，回到循环判断 running
+                }
+                continue;
+            }
+            transferPending();
+            processCancelled();
+            while (currentTick <= targetTick) {
+                cascade();
+                expire(wheels[0][(int) (currentTick & WHEEL_MASK)]);
+                currentTick++;
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() == Timeout.ST_INIT) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 按到期tick与当前tick的距离选择层和格子
+     */
+    private void place(Timeout timeout) {
+        long deadlineTick = Math.max(timeout.deadlineTick, currentTick);
+        long delta = deadlineTick - currentTick;
+        if (delta > maxSpan) {
+            // 超出最高层范围，先放到最高层能表示的最远位置
+            deadlineTick = currentTick + maxSpan;
+            delta = maxSpan;
+        }
+        int level = 0;
+        while (level < levels - 1 && delta >= (1L << ((level + 1) * WHEEL_BITS))) {
+            level++;
+        }
+        int index = (int) ((deadlineTick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+        wheels[level][index].add(timeout);
+    }
+
+    /**
+     * 低层转完一圈时，把高层对应格子的任务重新下沉。从高层往低层处理，保证逐层下沉到底。
+     */
+    private void cascade() {
+        // 第l层需要下沉的条件：低 l*WHEEL_BITS 位全为0，即下面各层都刚转完一圈
+        int level = 0;
+        while (level < levels - 1 && (currentTick & ((1L << ((level + 1) * WHEEL_BITS)) - 1)) == 0) {
+            level++;
+        }
+        for (int l = level; l >= 1; l--) {
+            Bucket bucket = wheels[l][(int) ((currentTick >>> (l * WHEEL_BITS)) & WHEEL_MASK)];
+            Timeout timeout;
+            while ((timeout = bucket.poll()) != null) {
+                if (timeout.state.get() == Timeout.ST_INIT) {
+                    place(timeout);
+                }
+            }
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        Timeout timeout;
+        while ((timeout = bucket.poll()) != null) {
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                // 已取消的任务直接丢弃
+                continue;
+            }
+            if (timeout.deadlineTick > currentTick) {
+                place(timeout);
+            } else if (timeout.startTime != null) {
+                resolveWorkingDeadline(timeout);
+                place(timeout);
+            } else if (timeout.state.compareAndSet(Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+                execute(timeout);
+            }
+        }
+    }
+
+    private void execute(Timeout timeout) {
+        try {
+            executor.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            // 执行器拒绝时任务没有运行，不算到期
+            timeout.state.set(Timeout.ST_REJECTED);
+        } catch (RuntimeException e) {
+            // 用 Runnable::run 时任务自身的异常会抛到这里，交给线程的异常处理器报告，时间轮继续转动
+            worker.getUncaughtExceptionHandler().uncaughtException(worker, e);
+        }
+    }
+
+    /**
+     * 按工作日历算出真正的到期时间，转换成tick后变为普通的自然时间任务
+     */
+    private void resolveWorkingDeadline(Timeout timeout) {
+        LocalDateTime due = calendar.plusWorkingMinutes(timeout.startTime, timeout.workingMinutes);
+        long remainingMillis = due.atZone(zone).toInstant().toEpochMilli() - Instant.now().toEpochMilli();
+        timeout.deadlineTick = currentTick + tickOf(Math.max(0, remainingMillis));
+        timeout.startTime = null;
+    }
+
+    /**
+     * 定时任务句柄
+     */
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final int ST_REJECTED = 3;
+
+        private final TimingWheelScheduler scheduler;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // 以下字段只由工作线程读写
+        private long deadlineTick;
+        private LocalDateTime startTime;
+        private final long workingMinutes;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheelScheduler scheduler, Runnable task, long deadlineTick,
+                        LocalDateTime startTime, long workingMinutes) {
+            if (null == task) {
+                throw new IllegalStateException();
+            }
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+            this.startTime = startTime;
+            this.workingMinutes = workingMinutes;
+        }
+
+        /**
+         * 取消任务。只做状态切换，真正从格子里摘除由工作线程完成。
+         *
+         * @return true：取消成功；false：已经执行、已经取消或被执行器拒绝
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            scheduler.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        /**
+         * 已到期并交给执行器
+         */
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        /**
+         * 到期时被执行器拒绝，任务没有运行
+         */
+        public boolean isRejected() {
+            return state.get() == ST_REJECTED;
+        }
+    }
+
+    /**
+     * 时间轮的一格：侵入式双向链表，增删都是O(1)
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout poll() {
+            Timeout timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
@@ -68,6 +68,61 @@ public class WorkingMinutesCalculator {
         return (int) (allWorkingMinutes - tailRedundantMinutes - headRedundanMinutes);
     }
 
+    /**
+     * 从开始时间起，累加指定的工作分钟数，得到到期时间。跳过周六周日和非工作时段。
+     *
+     * @param startTime      开始时间
+     * @param workingMinutes 工作分钟数，不能为负数
+     * @return 到期时间
+     */
+    public LocalDateTime plusWorkingMinutes(final LocalDateTime startTime, final long workingMinutes) {
+        if (null == startTime) {
+            throw new IllegalStateException();
+        }
+        if (workingMinutes < 0) {
+            throw new IllegalArgumentException("workingMinutes must not be negative: " + workingMinutes);
+        }
+
+        // 先对齐到最近的工作时间点
+        LocalDateTime cursor = alignToWorkingTime(startTime);
+        // 用Duration精确计算，开始时间不在整分上时不丢失秒和纳秒的零头
+        Duration remaining = Duration.ofMinutes(workingMinutes);
+        // 逐个工作日扣减当天剩余的工作时长，不够扣时落在当天
+        while (!remaining.isZero()) {
+            Duration leftOfDay = Duration.between(cursor, cursor.toLocalDate().atTime(WORK_HOUR_END, 0));
+            if (remaining.compareTo(leftOfDay) <= 0) {
+                return cursor.plus(remaining);
+            }
+            remaining = remaining.minus(leftOfDay);
+            cursor = nextWorkingDayStart(cursor.toLocalDate());
+        }
+        return cursor;
+    }
+
+    /**
+     * 对齐到最近的工作时间点：工作时段内保持不变，否则移动到下一个工作时段的开始。
+     */
+    private LocalDateTime alignToWorkingTime(final LocalDateTime time) {
+        if (!isWorkingDay(time) || time.getHour() >= WORK_HOUR_END) {
+            return nextWorkingDayStart(time.toLocalDate());
+        }
+        if (time.getHour() < WORK_HOUR_START) {
+            return time.toLocalDate().atTime(WORK_HOUR_START, 0);
+        }
+        return time;
+    }
+
+    /**
+     * 指定日期之后的第一个工作日的上班时间
+     */
+    private LocalDateTime nextWorkingDayStart(final LocalDate day) {
+        LocalDateTime next = day.plusDays(1).atTime(WORK_HOUR_START, 0);
+        while (!isWorkingDay(next)) {
+            next = next.plusDays(1);
+        }
+        return next;
+    }
+
     /**
      * 判断是否工作日
      *
@@ -0,0 +1,50 @@
+package com.zerojerry.utils.time.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * @Description 把东八区的 yyyy-MM-dd HH:mm:ss 反序列化为秒级Unix时间戳，数字则原样作为秒数。
+ * 用法：{@code @JsonDeserialize(using = EpochSecondDeserializer.class) private Long createTime;}
+ * @Date 2026/10/19 21:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class EpochSecondDeserializer extends StdDeserializer<Long> {
+    private static final long serialVersionUID = 1L;
+
+    public EpochSecondDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (Long) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        LocalDateTime datetime = FastDateTimeFormat.parseDateTime(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (datetime != null) {
+            return LocalDateTimeUtils.getSecondsByTime(datetime);
+        }
+        String text = p.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTimeUtils.getSecondsByTime(LocalDateTime.parse(text, LocalDateTimeUtils.DATETIME_FORMATTER));
+        } catch (DateTimeException e) {
+            return (Long) ctxt.handleWeirdStringValue(handledType(), text, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.zerojerry.utils.time.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static com.zerojerry.utils.time.LocalDateTimeUtils.ZONE_ID_SH;
+
+/**
+ * @Description 秒级Unix时间戳字段按东八区序列化为 yyyy-MM-dd HH:mm:ss。
+ * 用法：{@code @JsonSerialize(using = EpochSecondSerializer.class) private Long createTime;}
+ * @Date 2026/10/19 21:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class EpochSecondSerializer extends StdSerializer<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[FastDateTimeFormat.DATETIME_LENGTH]);
+
+    public EpochSecondSerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        LocalDateTime datetime = LocalDateTime.ofInstant(Instant.ofEpochSecond(value), ZONE_ID_SH);
+        if (!FastDateTimeFormat.isFormattable(datetime.getYear())) {
+            gen.writeString(datetime.format(LocalDateTimeUtils.DATETIME_FORMATTER));
+            return;
+        }
+        char[] buf = BUFFER.get();
+        int length = FastDateTimeFormat.formatDateTime(datetime, buf, 0);
+        gen.writeString(buf, 0, length);
+    }
+}
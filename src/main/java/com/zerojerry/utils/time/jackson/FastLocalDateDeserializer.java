@@ -0,0 +1,66 @@
+package com.zerojerry.utils.time.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * @Description 从JsonParser的字符缓冲区直接解析 yyyy-MM-dd。
+ * 形状不符时回退到 {@link LocalDateTimeUtils#DATE_FORMATTER}，保持原有的解析结果和错误信息。
+ * @Date 2026/10/19 21:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class FastLocalDateDeserializer extends StdDeserializer<LocalDate> implements ContextualDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    public FastLocalDateDeserializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (LocalDate) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        LocalDate result = FastDateTimeFormat.parseDate(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (result != null) {
+            return result;
+        }
+        String text = p.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text, LocalDateTimeUtils.DATE_FORMATTER);
+        } catch (DateTimeException e) {
+            return (LocalDate) ctxt.handleWeirdStringValue(handledType(), text, e.getMessage());
+        }
+    }
+
+    /**
+     * 属性上的 @JsonFormat 指定了pattern或shape时，交给jackson-datatype-jsr310的 {@link LocalDateDeserializer} 处理
+     */
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format.hasPattern() || format.hasShape()) {
+            return LocalDateDeserializer.INSTANCE.createContextual(ctxt, property);
+        }
+        return this;
+    }
+}
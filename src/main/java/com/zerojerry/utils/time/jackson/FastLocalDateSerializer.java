@@ -0,0 +1,57 @@
+package com.zerojerry.utils.time.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * @Description LocalDate序列化为 yyyy-MM-dd，数字直接写入JsonGenerator
+ * @Date 2026/10/19 21:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class FastLocalDateSerializer extends StdSerializer<LocalDate> implements ContextualSerializer {
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[FastDateTimeFormat.DATE_LENGTH]);
+
+    public FastLocalDateSerializer() {
+        super(LocalDate.class);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!FastDateTimeFormat.isFormattable(value.getYear())) {
+            gen.writeString(value.format(LocalDateTimeUtils.DATE_FORMATTER));
+            return;
+        }
+        char[] buf = BUFFER.get();
+        int length = FastDateTimeFormat.formatDate(value, buf, 0);
+        gen.writeString(buf, 0, length);
+    }
+
+    /**
+     * 属性上的 @JsonFormat 指定了pattern或shape时，交给jackson-datatype-jsr310的 {@link LocalDateSerializer} 处理
+     */
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format.hasPattern() || format.hasShape()) {
+            return LocalDateSerializer.INSTANCE.createContextual(prov, property);
+        }
+        return this;
+    }
+}
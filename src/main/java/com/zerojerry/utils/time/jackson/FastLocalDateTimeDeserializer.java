@@ -0,0 +1,66 @@
+package com.zerojerry.utils.time.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * @Description 从JsonParser的字符缓冲区直接解析 yyyy-MM-dd HH:mm:ss。
+ * 形状不符时回退到 {@link LocalDateTimeUtils#DATETIME_FORMATTER}，保持原有的解析结果和错误信息。
+ * @Date 2026/10/19 21:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class FastLocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> implements ContextualDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    public FastLocalDateTimeDeserializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (LocalDateTime) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        LocalDateTime result = FastDateTimeFormat.parseDateTime(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (result != null) {
+            return result;
+        }
+        String text = p.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(text, LocalDateTimeUtils.DATETIME_FORMATTER);
+        } catch (DateTimeException e) {
+            return (LocalDateTime) ctxt.handleWeirdStringValue(handledType(), text, e.getMessage());
+        }
+    }
+
+    /**
+     * 属性上的 @JsonFormat 指定了pattern或shape时，交给jackson-datatype-jsr310的 {@link LocalDateTimeDeserializer} 处理
+     */
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format.hasPattern() || format.hasShape()) {
+            return LocalDateTimeDeserializer.INSTANCE.createContextual(ctxt, property);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,31 @@
+package com.zerojerry.utils.time.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * @Description Jackson模块：LocalDateTime按 yyyy-MM-dd HH:mm:ss、LocalDate按 yyyy-MM-dd 序列化和反序列化，
+ * 直接读写JsonGenerator/JsonParser的字符，不生成中间字符串，也不经过DateTimeFormatter。
+ * <p>
+ * Spring Boot中把本模块声明为Bean即可，会在jackson-datatype-jsr310之后注册，从而覆盖默认的序列化器。
+ * 属性上的 @JsonFormat 指定了pattern或shape时，仍交给jackson-datatype-jsr310的序列化器处理，所以运行时需要该依赖。
+ * 没有做过JMH基准测试，相对jackson-datatype-jsr310的吞吐提升未经严格测量。
+ * 秒级Unix时间戳字段需要单独标注 {@code @JsonSerialize(using = EpochSecondSerializer.class)}、
+ * {@code @JsonDeserialize(using = EpochSecondDeserializer.class)}。
+ * @Date 2026/10/19 21:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class FastTimeModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public FastTimeModule() {
+        super(FastTimeModule.class.getSimpleName());
+        addSerializer(LocalDateTime.class, new FastLocalDateTimeSerializer());
+        addDeserializer(LocalDateTime.class, new FastLocalDateTimeDeserializer());
+        addSerializer(LocalDate.class, new FastLocalDateSerializer());
+        addDeserializer(LocalDate.class, new FastLocalDateDeserializer());
+    }
+}
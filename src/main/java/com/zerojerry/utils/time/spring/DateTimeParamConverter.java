@@ -0,0 +1,63 @@
+package com.zerojerry.utils.time.spring;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * @Description String与LocalDateTime、LocalDate之间的转换，解析和输出分别委托给
+ * {@link LocalDateTimeParamFormatter}、{@link LocalDateParamFormatter}。
+ * 参数或字段带有 {@link DateTimeFormat} 注解时不参与转换，交回Spring按注解指定的pattern/iso处理；
+ * 没有注解的参数由本类处理，不再使用 spring.mvc.format.* 配置的格式。
+ * 空字符串转为null，与Spring对Formatter的处理一致。
+ * @Date 2026/10/20 18:40
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class DateTimeParamConverter implements ConditionalGenericConverter {
+    private final LocalDateTimeParamFormatter dateTimeFormatter = new LocalDateTimeParamFormatter();
+    private final LocalDateParamFormatter dateFormatter = new LocalDateParamFormatter();
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return new HashSet<>(Arrays.asList(
+                new ConvertiblePair(String.class, LocalDateTime.class),
+                new ConvertiblePair(String.class, LocalDate.class),
+                new ConvertiblePair(LocalDateTime.class, String.class),
+                new ConvertiblePair(LocalDate.class, String.class)));
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        TypeDescriptor timeType = targetType.getType() == String.class ? sourceType : targetType;
+        return !timeType.hasAnnotation(DateTimeFormat.class);
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        if (source instanceof LocalDateTime) {
+            return dateTimeFormatter.print((LocalDateTime) source, Locale.getDefault());
+        }
+        if (source instanceof LocalDate) {
+            return dateFormatter.print((LocalDate) source, Locale.getDefault());
+        }
+        String text = ((String) source).trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        if (targetType.getType() == LocalDateTime.class) {
+            return dateTimeFormatter.parse(text, Locale.getDefault());
+        }
+        return dateFormatter.parse(text, Locale.getDefault());
+    }
+}
@@ -0,0 +1,33 @@
+package com.zerojerry.utils.time.spring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.Formatter;
+
+/**
+ * @Description 自动注册LocalDateTime、LocalDate的请求参数转换器，需要显式开启：
+ * <pre>
+ * zerojerry.time.param-converter.enabled=true
+ * </pre>
+ * Spring Boot的WebMvc、WebFlux自动配置会把容器中的GenericConverter加入转换服务，并排在默认的日期转换之前；
+ * 带 @DateTimeFormat 注解的参数仍按注解处理，见 {@link DateTimeParamConverter}。
+ * @Date 2026/10/19 23:20
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Formatter.class)
+@ConditionalOnWebApplication
+@ConditionalOnProperty(prefix = "zerojerry.time.param-converter", name = "enabled", havingValue = "true")
+public class FastTimeFormatterAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DateTimeParamConverter dateTimeParamConverter() {
+        return new DateTimeParamConverter();
+    }
+}
@@ -0,0 +1,36 @@
+package com.zerojerry.utils.time.spring;
+
+import com.zerojerry.utils.time.DateTimeParamParser;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+import org.springframework.format.Formatter;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * @Description 请求参数转LocalDate。按形状直接选定格式解析，支持的形状见 {@link DateTimeParamParser}，
+ * 带时间的形状只取日期部分；输出为 yyyy-MM-dd。
+ * 作为Formatter注册时会排在所有LocalDate转换之前，包括带 @DateTimeFormat 注解的参数；
+ * 需要保留注解的行为时改用 {@link DateTimeParamConverter}。
+ * @Date 2026/10/19 23:20
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class LocalDateParamFormatter implements Formatter<LocalDate> {
+
+    @Override
+    public LocalDate parse(String text, Locale locale) {
+        return DateTimeParamParser.parseLocalDate(text);
+    }
+
+    @Override
+    public String print(LocalDate object, Locale locale) {
+        if (!FastDateTimeFormat.isFormattable(object.getYear())) {
+            return object.format(LocalDateTimeUtils.DATE_FORMATTER);
+        }
+        char[] buf = new char[FastDateTimeFormat.DATE_LENGTH];
+        FastDateTimeFormat.formatDate(object, buf, 0);
+        return new String(buf);
+    }
+}
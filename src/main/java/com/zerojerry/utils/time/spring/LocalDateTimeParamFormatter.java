@@ -0,0 +1,36 @@
+package com.zerojerry.utils.time.spring;
+
+import com.zerojerry.utils.time.DateTimeParamParser;
+import com.zerojerry.utils.time.FastDateTimeFormat;
+import com.zerojerry.utils.time.LocalDateTimeUtils;
+import org.springframework.format.Formatter;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * @Description 请求参数转LocalDateTime。按形状直接选定格式解析，支持的形状见 {@link DateTimeParamParser}；
+ * 输出为 yyyy-MM-dd HH:mm:ss。
+ * 作为Formatter注册时会排在所有LocalDateTime转换之前，包括带 @DateTimeFormat 注解的参数；
+ * 需要保留注解的行为时改用 {@link DateTimeParamConverter}。
+ * @Date 2026/10/19 23:20
+ * @Author ZeroJerry
+ * @Version 1.0
+ */
+public class LocalDateTimeParamFormatter implements Formatter<LocalDateTime> {
+
+    @Override
+    public LocalDateTime parse(String text, Locale locale) {
+        return DateTimeParamParser.parseLocalDateTime(text);
+    }
+
+    @Override
+    public String print(LocalDateTime object, Locale locale) {
+        if (!FastDateTimeFormat.isFormattable(object.getYear())) {
+            return object.format(LocalDateTimeUtils.DATETIME_FORMATTER);
+        }
+        char[] buf = new char[FastDateTimeFormat.DATETIME_LENGTH];
+        FastDateTimeFormat.formatDateTime(object, buf, 0);
+        return new String(buf);
+    }
+}